@@ -34,6 +34,7 @@ import me.ampayne2.ultimategames.api.players.PlayerManager;
 import me.ampayne2.ultimategames.api.players.classes.GameClassManager;
 import me.ampayne2.ultimategames.api.players.points.PointManager;
 import me.ampayne2.ultimategames.api.players.teams.TeamManager;
+import me.ampayne2.ultimategames.api.players.trackers.TrackerManager;
 import me.ampayne2.ultimategames.api.rollback.RollbackManager;
 import me.ampayne2.ultimategames.api.signs.SignManager;
 import me.ampayne2.ultimategames.api.webapi.WebHandler;
@@ -52,6 +53,13 @@ public interface UltimateGames {
      */
     JavaPlugin getPlugin();
 
+    /**
+     * Gets the amount of ticks since UltimateGames was enabled.
+     *
+     * @return The current tick.
+     */
+    long getCurrentTick();
+
     /**
      * Gets the ConfigManager.
      *
@@ -122,6 +130,13 @@ public interface UltimateGames {
      */
     TeamManager getTeamManager();
 
+    /**
+     * Gets the TrackerManager.
+     *
+     * @return The TrackerManager.
+     */
+    TrackerManager getTrackerManager();
+
     /**
      * Gets the QueueManager.
      *
@@ -153,7 +153,10 @@ public interface Arena {
 
 
     /**
-     * Gets the ConfigurationSection of the arena.
+     * Gets the ConfigurationSection of the arena.<br>
+     * Each arena is stored in its own config, so this is the root of the arena's config.<br>
+     * Changes to it must be saved with {@link me.ampayne2.ultimategames.api.config.ConfigManager#getArenaConfigAccessor(Arena)},
+     * saving the {@link me.ampayne2.ultimategames.api.config.ConfigType#ARENA} config doesn't save them.
      *
      * @return The arena's ConfigurationSection.
      */
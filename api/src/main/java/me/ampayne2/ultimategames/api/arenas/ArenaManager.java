@@ -18,6 +18,7 @@
  */
 package me.ampayne2.ultimategames.api.arenas;
 
+import me.ampayne2.ultimategames.api.arenas.grid.PlayerGrid;
 import org.bukkit.Location;
 
 import java.util.List;
@@ -110,4 +111,12 @@ public interface ArenaManager {
      * @return All of the existing arenas.
      */
     List<Arena> getArenas();
+
+    /**
+     * Gets the grid of the positions of an arena's players.
+     *
+     * @param arena The arena.
+     * @return The arena's player grid.
+     */
+    PlayerGrid getPlayerGrid(Arena arena);
 }
@@ -32,6 +32,7 @@ public abstract class Countdown extends BukkitRunnable {
     protected int ticksLeft;
     protected long period;
     private Integer taskId = null;
+    private CountdownScheduler scheduler = null;
 
     /**
      * Creates a new Countdown.
@@ -54,7 +55,9 @@ public abstract class Countdown extends BukkitRunnable {
      * @return True if the countdown was started.
      */
     public boolean start() {
-        if (taskId == null) {
+        if (scheduler != null) {
+            return scheduler.schedule(this);
+        } else if (taskId == null) {
             taskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(ultimateGames.getPlugin(), this, 0, period);
             return true;
         } else {
@@ -66,12 +69,44 @@ public abstract class Countdown extends BukkitRunnable {
      * Stops the countdown.
      */
     public void stop() {
-        if (taskId != null) {
+        if (scheduler != null) {
+            scheduler.cancel(this);
+        } else if (taskId != null) {
             Bukkit.getScheduler().cancelTask(taskId);
             taskId = null;
         }
     }
 
+    /**
+     * Gets the arena of the countdown.
+     *
+     * @return The arena.
+     */
+    public Arena getArena() {
+        return arena;
+    }
+
+    /**
+     * Gets the period of the countdown.
+     *
+     * @return Amount of ticks to wait between each run.
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * Sets the {@link me.ampayne2.ultimategames.api.arenas.countdowns.CountdownScheduler} that runs the countdown.<br>
+     * If null, the countdown is run by its own bukkit task.
+     *
+     * @param scheduler The {@link me.ampayne2.ultimategames.api.arenas.countdowns.CountdownScheduler}.
+     * @return The Countdown.
+     */
+    public Countdown setScheduler(CountdownScheduler scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
     /**
      * Gets the ticks left on the countdown.
      *
@@ -0,0 +1,35 @@
+/*
+ * This file is part of UltimateGames API.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames API is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames API is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames API.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.api.arenas.grid;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Decides which players a {@link me.ampayne2.ultimategames.api.arenas.grid.PlayerGrid} query returns.
+ */
+public interface PlayerFilter {
+
+    /**
+     * Checks if a player should be returned.
+     *
+     * @param player The player.
+     * @return True if the player should be returned, else false.
+     */
+    boolean accept(Player player);
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of UltimateGames API.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames API is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames API is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames API.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.api.arenas.grid;
+
+import me.ampayne2.ultimategames.api.players.teams.Team;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+
+/**
+ * Common {@link me.ampayne2.ultimategames.api.arenas.grid.PlayerFilter}s.
+ */
+public final class PlayerFilters {
+    /**
+     * Accepts every player.
+     */
+    public static final PlayerFilter ALL = new PlayerFilter() {
+        @Override
+        public boolean accept(Player player) {
+            return true;
+        }
+    };
+    /**
+     * Accepts players that are alive.
+     */
+    public static final PlayerFilter ALIVE = new PlayerFilter() {
+        @Override
+        public boolean accept(Player player) {
+            return !player.isDead();
+        }
+    };
+
+    private PlayerFilters() {
+    }
+
+    /**
+     * Creates a filter that accepts every player except one.
+     *
+     * @param excluded The excluded player.
+     * @return The filter.
+     */
+    public static PlayerFilter excluding(final Player excluded) {
+        return new PlayerFilter() {
+            @Override
+            public boolean accept(Player player) {
+                return !player.getName().equals(excluded.getName());
+            }
+        };
+    }
+
+    /**
+     * Creates a filter that accepts the players of a team.
+     *
+     * @param team The team.
+     * @return The filter.
+     */
+    public static PlayerFilter inTeam(final Team team) {
+        return new PlayerFilter() {
+            @Override
+            public boolean accept(Player player) {
+                return team.hasPlayer(player.getName());
+            }
+        };
+    }
+
+    /**
+     * Creates a filter that accepts the players in a collection.
+     *
+     * @param players The players.
+     * @return The filter.
+     */
+    public static PlayerFilter in(final Collection<Player> players) {
+        return new PlayerFilter() {
+            @Override
+            public boolean accept(Player player) {
+                return players.contains(player);
+            }
+        };
+    }
+
+    /**
+     * Creates a filter that accepts the players accepted by all of the filters.
+     *
+     * @param filters The filters.
+     * @return The filter.
+     */
+    public static PlayerFilter and(final PlayerFilter... filters) {
+        return new PlayerFilter() {
+            @Override
+            public boolean accept(Player player) {
+                for (PlayerFilter filter : filters) {
+                    if (!filter.accept(player)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of UltimateGames API.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames API is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames API is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames API.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.api.arenas.grid;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+/**
+ * A grid of the positions of an arena's players, refreshed at most once per tick.<br>
+ * Queries only look at the grid cells near the query location.
+ */
+public interface PlayerGrid {
+
+    /**
+     * Gets the nearest player to a location.
+     *
+     * @param location The location.
+     * @param filter   The filter of the players to consider.
+     * @return The nearest player, or null if no player is accepted by the filter.
+     */
+    Player getNearestPlayer(Location location, PlayerFilter filter);
+
+    /**
+     * Gets the nearest players to a location, nearest first.
+     *
+     * @param location The location.
+     * @param amount   The maximum amount of players to get.
+     * @param filter   The filter of the players to consider.
+     * @return The nearest players.
+     */
+    List<Player> getNearestPlayers(Location location, int amount, PlayerFilter filter);
+
+    /**
+     * Gets the players within a radius of a location.
+     *
+     * @param location The location.
+     * @param radius   The radius.
+     * @param filter   The filter of the players to consider.
+     * @return The players within the radius.
+     */
+    List<Player> getPlayersInRadius(Location location, double radius, PlayerFilter filter);
+}
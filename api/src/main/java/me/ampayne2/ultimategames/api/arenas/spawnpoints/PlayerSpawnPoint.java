@@ -21,17 +21,14 @@ package me.ampayne2.ultimategames.api.arenas.spawnpoints;
 import me.ampayne2.ultimategames.api.UltimateGames;
 import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.message.UGMessage;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 
 /**
  * An arena spawnpoint for players.
  */
-public class PlayerSpawnPoint extends SpawnPoint implements Listener {
+public class PlayerSpawnPoint extends SpawnPoint {
     private final UltimateGames ultimateGames;
     private boolean locked;
     private String playerName;
@@ -48,7 +45,6 @@ public class PlayerSpawnPoint extends SpawnPoint implements Listener {
         super(arena, location);
         this.ultimateGames = ultimateGames;
         this.locked = locked;
-        Bukkit.getServer().getPluginManager().registerEvents(this, ultimateGames.getPlugin());
     }
 
     /**
@@ -66,10 +62,12 @@ public class PlayerSpawnPoint extends SpawnPoint implements Listener {
      * @param locked The state to set. If a player is locked in a spawnpoint when set to false, the player will be released.
      */
     public void lock(boolean locked) {
+        String previousPlayerName = playerName;
         this.locked = locked;
         if (!locked) {
             playerName = null;
         }
+        ultimateGames.getSpawnpointManager().updateLockedPlayer(this, previousPlayerName);
     }
 
     /**
@@ -78,6 +76,7 @@ public class PlayerSpawnPoint extends SpawnPoint implements Listener {
      * @param player The player to teleport.
      */
     public void teleportPlayer(Player player) {
+        String previousPlayerName = playerName;
         if (player != null) {
             player.teleport(getLocation());
             if (locked) {
@@ -86,7 +85,7 @@ public class PlayerSpawnPoint extends SpawnPoint implements Listener {
         } else {
             this.playerName = null;
         }
-
+        ultimateGames.getSpawnpointManager().updateLockedPlayer(this, previousPlayerName);
     }
 
     /**
@@ -99,16 +98,14 @@ public class PlayerSpawnPoint extends SpawnPoint implements Listener {
     }
 
     /**
-     * Stops players from attempting to leave spawnpoints.
+     * Stops the locked player from attempting to leave the spawnpoint.<br>
+     * Called by UltimateGames' central move listener for the moving player's spawnpoint only.
+     *
+     * @param event The PlayerMove event.
      */
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
+    public void handlePlayerMove(PlayerMoveEvent event) {
         if (locked && playerName != null) {
-            Location from = event.getFrom();
             Location to = event.getTo();
-            if (from.getBlockX() == to.getBlockX() && from.getBlockZ() == to.getBlockZ()) {
-                return;
-            }
             Player player = event.getPlayer();
             Location location = getLocation();
             if (player.getName().equals(playerName) && (Math.abs(to.getX() - location.getX()) >= 1 || Math.abs(to.getZ() - location.getZ()) >= 1)) {
@@ -101,4 +101,12 @@ public interface SpawnpointManager {
      * @return The spawnpoints.
      */
     List<PlayerSpawnPoint> getSpawnPointsOfArena(Arena arena);
+
+    /**
+     * Updates the player locked in a spawnpoint. Called by the spawnpoint whenever its locked player changes.
+     *
+     * @param spawnPoint         The spawnpoint.
+     * @param previousPlayerName The name of the player previously locked in the spawnpoint, or null if there was none.
+     */
+    void updateLockedPlayer(PlayerSpawnPoint spawnPoint, String previousPlayerName);
 }
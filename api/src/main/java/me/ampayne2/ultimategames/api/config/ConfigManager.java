@@ -18,6 +18,7 @@
  */
 package me.ampayne2.ultimategames.api.config;
 
+import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.games.Game;
 import org.bukkit.configuration.file.FileConfiguration;
 
@@ -56,4 +57,20 @@ public interface ConfigManager {
      * @return The FileConfiguration.
      */
     FileConfiguration getGameConfig(Game game);
+
+    /**
+     * Gets an Arena's ConfigAccessor. Each arena is stored in its own file, together with its spawn points, zones and signs.
+     *
+     * @param arena The arena.
+     * @return The Arena's ConfigAccessor.
+     */
+    ConfigAccessor getArenaConfigAccessor(Arena arena);
+
+    /**
+     * Gets an arena's FileConfiguration.
+     *
+     * @param arena The arena.
+     * @return The FileConfiguration.
+     */
+    FileConfiguration getArenaConfig(Arena arena);
 }
@@ -21,13 +21,13 @@ package me.ampayne2.ultimategames.api.games.items;
 import me.ampayne2.ultimategames.api.UltimateGames;
 import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
-import org.bukkit.Bukkit;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
 /**
  * A GameItem that can only be used once every given amount of ticks.<br>
@@ -36,7 +36,9 @@ import java.util.Set;
 public class RepeatingGameItem extends GameItem {
     private final UltimateGames ultimateGames;
     private final long repeatingPeriod;
-    private Set<String> repeating = new HashSet<>();
+    private final Map<String, Long> cooldowns = new HashMap<>();
+    private long lastPurgeTick;
+    private static final long PURGE_INTERVAL = 200;
 
     /**
      * Creates a new RepeatingGameItem.
@@ -53,35 +55,13 @@ public class RepeatingGameItem extends GameItem {
 
     @Override
     public boolean click(Arena arena, PlayerInteractEvent event) {
-        final String playerName = event.getPlayer().getName();
-        if (!repeating.contains(playerName)) {
-            repeating.add(playerName);
-            Bukkit.getServer().getScheduler().scheduleSyncDelayedTask(ultimateGames.getPlugin(), new Runnable() {
-                @Override
-                public void run() {
-                    if (repeating.contains(playerName)) {
-                        repeating.remove(playerName);
-                    }
-                }
-            }, repeatingPeriod);
-        }
+        startCooldown(event.getPlayer().getName());
         return true;
     }
 
     @Override
     public boolean click(Arena arena, PlayerInteractEntityEvent event) {
-        final String playerName = event.getPlayer().getName();
-        if (!repeating.contains(playerName)) {
-            repeating.add(playerName);
-            Bukkit.getServer().getScheduler().scheduleSyncDelayedTask(ultimateGames.getPlugin(), new Runnable() {
-                @Override
-                public void run() {
-                    if (repeating.contains(playerName)) {
-                        repeating.remove(playerName);
-                    }
-                }
-            }, repeatingPeriod);
-        }
+        startCooldown(event.getPlayer().getName());
         return true;
     }
 
@@ -93,6 +73,47 @@ public class RepeatingGameItem extends GameItem {
      * @return True if the RepeatingGameItem can be used again, else false.
      */
     public boolean canClick(Arena arena, String playerName) {
-        return arena.getStatus() == ArenaStatus.RUNNING && !repeating.contains(playerName);
+        return arena.getStatus() == ArenaStatus.RUNNING && getRemainingTicks(playerName) == 0;
+    }
+
+    /**
+     * Gets the amount of ticks before a player can use the RepeatingGameItem again.
+     *
+     * @param playerName The name of the player.
+     * @return The remaining ticks of the player's cooldown, 0 if the player can use the RepeatingGameItem.
+     */
+    public long getRemainingTicks(String playerName) {
+        Long expiry = cooldowns.get(playerName);
+        return expiry == null ? 0 : Math.max(0, expiry - ultimateGames.getCurrentTick());
+    }
+
+    /**
+     * Starts a player's cooldown if the player isn't on cooldown already.
+     *
+     * @param playerName The name of the player.
+     */
+    private void startCooldown(String playerName) {
+        long currentTick = ultimateGames.getCurrentTick();
+        if (currentTick - lastPurgeTick >= PURGE_INTERVAL) {
+            purgeExpired(currentTick);
+        }
+        if (getRemainingTicks(playerName) == 0) {
+            cooldowns.put(playerName, currentTick + repeatingPeriod);
+        }
+    }
+
+    /**
+     * Removes all expired cooldowns.
+     *
+     * @param currentTick The current tick.
+     */
+    private void purgeExpired(long currentTick) {
+        Iterator<Long> expiries = cooldowns.values().iterator();
+        while (expiries.hasNext()) {
+            if (expiries.next() <= currentTick) {
+                expiries.remove();
+            }
+        }
+        lastPurgeTick = currentTick;
     }
 }
@@ -23,18 +23,25 @@ import me.ampayne2.ultimategames.api.arenas.Arena;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
- * The base class for a tracker.
+ * The base class for a tracker.<br>
+ * Trackers are updated every 5 ticks by the {@link me.ampayne2.ultimategames.api.players.trackers.TrackerManager}, which also
+ * passes player quits to them. Trackers that declare their own {@link org.bukkit.event.EventHandler}s are registered as
+ * listeners when created and unregistered when stopped.
  */
 public abstract class Tracker implements Runnable, Listener {
-    private final UltimateGames ultimateGames;
+    protected final UltimateGames ultimateGames;
     private final Player player;
     private final Arena arena;
-    private final int taskId;
+    private static final Map<Class<?>, Boolean> HAS_EVENT_HANDLERS = new HashMap<>();
 
     /**
      * Creates a new Tracker.
@@ -47,8 +54,33 @@ public abstract class Tracker implements Runnable, Listener {
         this.ultimateGames = ultimateGames;
         this.player = player;
         this.arena = arena;
-        taskId = Bukkit.getServer().getScheduler().scheduleSyncRepeatingTask(ultimateGames.getPlugin(), this, 0, 5);
-        Bukkit.getPluginManager().registerEvents(this, ultimateGames.getPlugin());
+        ultimateGames.getTrackerManager().addTracker(this);
+        if (hasEventHandlers(getClass())) {
+            Bukkit.getPluginManager().registerEvents(this, ultimateGames.getPlugin());
+        }
+    }
+
+    /**
+     * Checks if a tracker class or any of its superclasses declares event handlers.
+     *
+     * @param trackerClass The tracker class.
+     * @return True if the class declares event handlers, else false.
+     */
+    private static boolean hasEventHandlers(Class<?> trackerClass) {
+        Boolean hasEventHandlers = HAS_EVENT_HANDLERS.get(trackerClass);
+        if (hasEventHandlers == null) {
+            hasEventHandlers = false;
+            for (Class<?> clazz = trackerClass; clazz != Tracker.class && !hasEventHandlers; clazz = clazz.getSuperclass()) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(EventHandler.class)) {
+                        hasEventHandlers = true;
+                        break;
+                    }
+                }
+            }
+            HAS_EVENT_HANDLERS.put(trackerClass, hasEventHandlers);
+        }
+        return hasEventHandlers;
     }
 
     /**
@@ -73,7 +105,8 @@ public abstract class Tracker implements Runnable, Listener {
      * Stops the tracker from tracking.
      */
     public void stop() {
-        Bukkit.getServer().getScheduler().cancelTask(taskId);
+        ultimateGames.getTrackerManager().removeTracker(this);
+        HandlerList.unregisterAll(this);
     }
 
     /**
@@ -82,12 +115,23 @@ public abstract class Tracker implements Runnable, Listener {
     public abstract void run();
 
     /**
-     * Stops the tracker when the tracking player disconnects.
+     * Stops the tracker when the tracking player disconnects.<br>
+     * Called by the {@link me.ampayne2.ultimategames.api.players.trackers.TrackerManager}.
+     *
+     * @param event The {@link org.bukkit.event.player.PlayerQuitEvent} of the tracking player.
      */
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerQuit(PlayerQuitEvent event) {
         if (event.getPlayer().equals(player)) {
             stop();
         }
     }
+
+    /**
+     * Called by the {@link me.ampayne2.ultimategames.api.players.trackers.TrackerManager} when another player of the
+     * tracker's arena disconnects, or a player added with {@link TrackerManager#addTarget(Tracker, String)}.
+     *
+     * @param event The {@link org.bukkit.event.player.PlayerQuitEvent}.
+     */
+    public void onTargetPlayerQuit(PlayerQuitEvent event) {
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * This file is part of UltimateGames API.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames API is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames API is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames API.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.api.players.trackers;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+
+import java.util.List;
+
+/**
+ * Manages and updates trackers.
+ */
+public interface TrackerManager {
+
+    /**
+     * Adds a tracker to the manager. Trackers add themselves when created.
+     *
+     * @param tracker The tracker.
+     */
+    void addTracker(Tracker tracker);
+
+    /**
+     * Removes a tracker from the manager. Trackers remove themselves when stopped.
+     *
+     * @param tracker The tracker.
+     */
+    void removeTracker(Tracker tracker);
+
+    /**
+     * Notifies a tracker when a player disconnects even if the player isn't in the tracker's arena.<br>
+     * Trackers are always notified when a player of their own arena disconnects.
+     *
+     * @param tracker    The tracker.
+     * @param playerName The name of the target player.
+     */
+    void addTarget(Tracker tracker, String playerName);
+
+    /**
+     * Stops notifying a tracker when a player outside of its arena disconnects.
+     *
+     * @param tracker    The tracker.
+     * @param playerName The name of the target player.
+     */
+    void removeTarget(Tracker tracker, String playerName);
+
+    /**
+     * Gets the trackers of an arena.
+     *
+     * @param arena The arena.
+     * @return The trackers of the arena.
+     */
+    List<Tracker> getTrackersOfArena(Arena arena);
+
+    /**
+     * Stops all the trackers of an arena.
+     *
+     * @param arena The arena.
+     */
+    void stopTrackersOfArena(Arena arena);
+}
@@ -20,21 +20,23 @@ package me.ampayne2.ultimategames.api.players.trackers.compass;
 
 import me.ampayne2.ultimategames.api.UltimateGames;
 import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.arenas.grid.PlayerFilter;
+import me.ampayne2.ultimategames.api.arenas.grid.PlayerFilters;
 import me.ampayne2.ultimategames.api.utils.UGUtils;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 
 /**
  * A tracker that tracks the closest player from a collection of players with the compass.
  */
 public class ClosestPlayerCompassTracker extends PlayerCompassTracker {
     private Collection<Player> targetPlayers;
+    private final PlayerFilter targetFilter;
 
     /**
      * Creates a new ClosestPlayerCompassTracker.
@@ -47,6 +49,12 @@ public class ClosestPlayerCompassTracker extends PlayerCompassTracker {
     public ClosestPlayerCompassTracker(UltimateGames ultimateGames, Player player, Collection<Player> targetPlayers, Arena arena) {
         super(ultimateGames, player, arena);
         this.targetPlayers = targetPlayers;
+        targetFilter = PlayerFilters.and(PlayerFilters.excluding(player), new PlayerFilter() {
+            @Override
+            public boolean accept(Player candidate) {
+                return isTarget(candidate);
+            }
+        });
     }
 
     /**
@@ -62,10 +70,56 @@ public class ClosestPlayerCompassTracker extends PlayerCompassTracker {
 
     @Override
     public Location getTarget() {
-        setTargetPlayer(UGUtils.getNearestPlayer(getPlayer(), targetPlayers));
+        setTargetPlayer(getNearestTarget());
         return super.getTarget();
     }
 
+    /**
+     * Checks if a player is one of the target players of the tracker.
+     *
+     * @param player The player.
+     * @return True if the player is a target player, else false.
+     */
+    protected boolean isTarget(Player player) {
+        return targetPlayers.contains(player);
+    }
+
+    /**
+     * Gets the nearest target player to the tracking player from the arena's player grid.
+     *
+     * @return The nearest target player, or null if there are no target players.
+     */
+    protected Player getNearestTarget() {
+        Player nearest = ultimateGames.getArenaManager().getPlayerGrid(getArena()).getNearestPlayer(getPlayer().getLocation(), targetFilter);
+        if (nearest == null && hasTargetsOutsideArena()) {
+            nearest = UGUtils.getNearestPlayer(getPlayer(), targetPlayers);
+        }
+        return nearest;
+    }
+
+    /**
+     * Checks if any of the target players aren't players of the tracker's arena, and so aren't in the arena's player grid.<br>
+     * Only the current target is notified of quits outside of the arena, so other target players that went offline
+     * are removed here.
+     *
+     * @return True if a target player is outside of the arena, else false.
+     */
+    private boolean hasTargetsOutsideArena() {
+        boolean outside = false;
+        if (targetPlayers != null) {
+            Iterator<Player> iterator = targetPlayers.iterator();
+            while (iterator.hasNext()) {
+                Player targetPlayer = iterator.next();
+                if (!targetPlayer.isOnline()) {
+                    iterator.remove();
+                } else if (!getArena().hasPlayer(targetPlayer.getName())) {
+                    outside = true;
+                }
+            }
+        }
+        return outside;
+    }
+
     /**
      * Sets the target players of the tracker.
      *
@@ -88,7 +142,6 @@ public class ClosestPlayerCompassTracker extends PlayerCompassTracker {
      * Removes a player from the collection of tracked players when the player disconnects.
      */
     @Override
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onTargetPlayerQuit(PlayerQuitEvent event) {
         if (targetPlayers.contains(event.getPlayer())) {
             targetPlayers.remove(event.getPlayer());
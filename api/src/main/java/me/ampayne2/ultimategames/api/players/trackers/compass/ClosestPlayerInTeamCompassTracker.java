@@ -21,13 +21,8 @@ package me.ampayne2.ultimategames.api.players.trackers.compass;
 import me.ampayne2.ultimategames.api.UltimateGames;
 import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.players.teams.Team;
-import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * A tracker that tracks the closest player from a team with the compass.
  */
@@ -48,13 +43,8 @@ public class ClosestPlayerInTeamCompassTracker extends ClosestPlayerCompassTrack
     }
 
     @Override
-    public Location getTarget() {
-        Set<Player> players = new HashSet<>();
-        for (String playerName : team.getPlayers()) {
-            players.add(Bukkit.getPlayerExact(playerName));
-        }
-        super.setTargetPlayers(players);
-        return super.getTarget();
+    protected boolean isTarget(Player player) {
+        return team != null && team.equals(ultimateGames.getTeamManager().getPlayerTeam(player.getName()));
     }
 
     /**
@@ -22,8 +22,6 @@ import me.ampayne2.ultimategames.api.UltimateGames;
 import me.ampayne2.ultimategames.api.arenas.Arena;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
@@ -42,7 +40,7 @@ public class PlayerCompassTracker extends CompassTracker {
      */
     public PlayerCompassTracker(UltimateGames ultimateGames, Player player, Player targetPlayer, Arena arena) {
         super(ultimateGames, player, arena);
-        this.targetPlayer = targetPlayer;
+        setTargetPlayer(targetPlayer);
     }
 
     /**
@@ -63,12 +61,21 @@ public class PlayerCompassTracker extends CompassTracker {
     }
 
     /**
-     * Sets the target player of the tracker.
+     * Sets the target player of the tracker. The tracker is stopped when the target player disconnects.
      *
      * @param targetPlayer The target player.
      */
     public void setTargetPlayer(Player targetPlayer) {
+        if (targetPlayer == this.targetPlayer) {
+            return;
+        }
+        if (this.targetPlayer != null) {
+            ultimateGames.getTrackerManager().removeTarget(this, this.targetPlayer.getName());
+        }
         this.targetPlayer = targetPlayer;
+        if (targetPlayer != null) {
+            ultimateGames.getTrackerManager().addTarget(this, targetPlayer.getName());
+        }
     }
 
     /**
@@ -83,7 +90,7 @@ public class PlayerCompassTracker extends CompassTracker {
     /**
      * Stops the tracker when the target player disconnects.
      */
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @Override
     public void onTargetPlayerQuit(PlayerQuitEvent event) {
         if (event.getPlayer().equals(targetPlayer)) {
             stop();
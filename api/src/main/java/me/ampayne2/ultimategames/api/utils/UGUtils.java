@@ -429,18 +429,15 @@ public final class UGUtils {
     public static Player getNearestPlayer(Player targeter, Collection<Player> players) {
         Player nearestPlayer = null;
         double distance = Double.POSITIVE_INFINITY;
+        Location location = targeter.getLocation();
+        String targeterName = targeter.getName();
 
         for (Player player : players) {
-            if (!player.getName().equals(targeter.getName())) {
-                if (nearestPlayer == null) {
+            if (!player.getName().equals(targeterName)) {
+                double distanceTo = location.distanceSquared(player.getLocation());
+                if (nearestPlayer == null || distanceTo < distance) {
                     nearestPlayer = player;
-                    distance = targeter.getLocation().distance(nearestPlayer.getLocation());
-                } else {
-                    double distanceTo = targeter.getLocation().distance(player.getLocation());
-                    if (distanceTo < distance) {
-                        nearestPlayer = player;
-                        distance = distanceTo;
-                    }
+                    distance = distanceTo;
                 }
             }
         }
@@ -0,0 +1,80 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.core.arenas.UArenaManager;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link me.ampayne2.ultimategames.core.arenas.UArenaManager#getLocationArena(org.bukkit.Location)}, which
+ * runs for every player movement and block event. Half of the looked up locations are inside an arena.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArenaLookupBenchmark {
+    private static final int LOCATIONS = 1024;
+    @Param({"10", "100", "1000"})
+    public int arenaCount;
+    private UArenaManager arenaManager;
+    private Location[] locations;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        UltimateGamesFixture fixture = UltimateGamesFixture.get();
+        List<Arena> arenas = fixture.createArenas(arenaCount);
+        arenaManager = fixture.getUltimateGames().getArenaManager();
+        Random random = new Random(42);
+        locations = new Location[LOCATIONS];
+        for (int i = 0; i < LOCATIONS; i++) {
+            Location center = fixture.getCenter(arenas.get(random.nextInt(arenas.size())));
+            if (i % 2 == 0) {
+                locations[i] = center.add(random.nextInt(UltimateGamesFixture.ARENA_SIZE) - UltimateGamesFixture.ARENA_SIZE / 2, 0, random.nextInt(UltimateGamesFixture.ARENA_SIZE) - UltimateGamesFixture.ARENA_SIZE / 2);
+            } else {
+                // Between arenas
+                locations[i] = center.add(UltimateGamesFixture.ARENA_SPACING / 2, 0, random.nextInt(UltimateGamesFixture.ARENA_SPACING));
+            }
+        }
+    }
+
+    @Benchmark
+    public Arena getLocationArena() {
+        return arenaManager.getLocationArena(locations[next++ & (LOCATIONS - 1)]);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks;
+
+import me.ampayne2.ultimategames.api.UltimateGames;
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+import me.ampayne2.ultimategames.api.arenas.spawnpoints.PlayerSpawnPoint;
+import me.ampayne2.ultimategames.api.games.Game;
+import me.ampayne2.ultimategames.api.games.GamePlugin;
+import org.bukkit.entity.Player;
+
+/**
+ * A minimal game used by the benchmarks. Players are sent to a random spawn point when they join and every arena can
+ * start once it has its minimum amount of players.<br>
+ * If a starting countdown is set, the countdown is created as soon as an open arena can start.
+ */
+public class BenchmarkGamePlugin extends GamePlugin {
+    private UltimateGames ultimateGames;
+    private int startingCountdown;
+
+    /**
+     * Sets the length of the starting countdown created when an open arena can start.
+     *
+     * @param seconds The length of the countdown in seconds, or 0 to never start arenas.
+     */
+    public void setStartingCountdown(int seconds) {
+        this.startingCountdown = seconds;
+    }
+
+    @Override
+    public boolean loadGame(UltimateGames ultimateGames, Game game) {
+        this.ultimateGames = ultimateGames;
+        return true;
+    }
+
+    @Override
+    public void unloadGame() {
+    }
+
+    @Override
+    public boolean reloadGame() {
+        return true;
+    }
+
+    @Override
+    public boolean stopGame() {
+        return true;
+    }
+
+    @Override
+    public boolean loadArena(Arena arena) {
+        return true;
+    }
+
+    @Override
+    public boolean unloadArena(Arena arena) {
+        return true;
+    }
+
+    @Override
+    public boolean isStartPossible(Arena arena) {
+        return arena.getPlayers().size() >= arena.getMinPlayers();
+    }
+
+    @Override
+    public boolean startArena(Arena arena) {
+        return true;
+    }
+
+    @Override
+    public boolean beginArena(Arena arena) {
+        return true;
+    }
+
+    @Override
+    public void endArena(Arena arena) {
+    }
+
+    @Override
+    public boolean openArena(Arena arena) {
+        return true;
+    }
+
+    @Override
+    public boolean stopArena(Arena arena) {
+        return true;
+    }
+
+    @Override
+    public boolean addPlayer(Player player, Arena arena) {
+        PlayerSpawnPoint spawnPoint = ultimateGames.getSpawnpointManager().getRandomSpawnPoint(arena);
+        if (spawnPoint != null) {
+            spawnPoint.teleportPlayer(player);
+        }
+        if (startingCountdown > 0 && arena.getStatus() == ArenaStatus.OPEN && arena.getPlayers().size() >= arena.getMinPlayers()
+                && !ultimateGames.getCountdownManager().hasStartingCountdown(arena)) {
+            ultimateGames.getCountdownManager().createStartingCountdown(arena, startingCountdown);
+        }
+        return true;
+    }
+
+    @Override
+    public void removePlayer(Player player, Arena arena) {
+    }
+
+    @Override
+    public boolean addSpectator(Player player, Arena arena) {
+        return true;
+    }
+
+    @Override
+    public void removeSpectator(Player player, Arena arena) {
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks;
+
+import me.ampayne2.ultimategames.api.games.Game;
+import me.ampayne2.ultimategames.api.games.items.GameItem;
+import me.ampayne2.ultimategames.core.games.items.UGameItemManager;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link me.ampayne2.ultimategames.core.games.items.UGameItemManager#getGameItem(me.ampayne2.ultimategames.api.games.Game, org.bukkit.inventory.ItemStack)},
+ * which runs for every interaction of a player in an arena, with registered items, items that share a material but
+ * not a name, and plain items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameItemBenchmark {
+    private static final Material[] MATERIALS = {Material.COMPASS, Material.DIAMOND_SWORD, Material.BOW, Material.STICK, Material.SNOW_BALL, Material.EGG, Material.BLAZE_ROD, Material.FEATHER};
+    private static final int ITEMS_PER_MATERIAL = 4;
+    private UGameItemManager gameItemManager;
+    private Game game;
+    private ItemStack registered;
+    private ItemStack sameMaterial;
+    private ItemStack plain;
+
+    @Setup
+    public void setUp() throws Exception {
+        UltimateGamesFixture fixture = UltimateGamesFixture.get();
+        gameItemManager = fixture.getUltimateGames().getGameItemManager();
+        game = fixture.getGame();
+        for (Material material : MATERIALS) {
+            for (int i = 0; i < ITEMS_PER_MATERIAL; i++) {
+                gameItemManager.registerGameItem(game, new BenchmarkItem(createItem(material, material.name() + " " + i)));
+            }
+        }
+        registered = createItem(Material.BOW, "BOW 2");
+        sameMaterial = createItem(Material.BOW, "Not a game item");
+        plain = new ItemStack(Material.DIRT);
+    }
+
+    private static ItemStack createItem(Material material, String name) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(name);
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    @Benchmark
+    public GameItem registeredItem() {
+        return gameItemManager.getGameItem(game, registered);
+    }
+
+    @Benchmark
+    public GameItem sameMaterialItem() {
+        return gameItemManager.getGameItem(game, sameMaterial);
+    }
+
+    @Benchmark
+    public GameItem plainItem() {
+        return gameItemManager.getGameItem(game, plain);
+    }
+
+    private static class BenchmarkItem extends GameItem {
+
+        private BenchmarkItem(ItemStack item) {
+            super(item, false);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.message.UGMessage;
+import me.ampayne2.ultimategames.benchmarks.server.FakePlayer;
+import me.ampayne2.ultimategames.core.message.UMessenger;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks formatting and sending messages through {@link me.ampayne2.ultimategames.core.message.UMessenger}, to a
+ * single player and to a full arena.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessengerBenchmark {
+    private UMessenger messenger;
+    private Player player;
+    private Arena arena;
+
+    @Setup
+    public void setUp() throws Exception {
+        UltimateGamesFixture fixture = UltimateGamesFixture.get();
+        messenger = fixture.getUltimateGames().getMessenger();
+        player = fixture.createPlayer().getPlayer();
+        arena = fixture.createArenas(1).get(0);
+        for (int i = 0; i < UltimateGamesFixture.MAX_PLAYERS; i++) {
+            FakePlayer arenaPlayer = fixture.createPlayer();
+            fixture.getUltimateGames().getPlayerManager().addPlayerToArena(arenaPlayer.getPlayer(), arena, false);
+        }
+    }
+
+    @Benchmark
+    public boolean sendToPlayer() {
+        return messenger.sendMessage(player, UGMessage.ARENA_JOIN, "Player", "3 / 16");
+    }
+
+    @Benchmark
+    public boolean sendToArena() {
+        return messenger.sendMessage(arena, UGMessage.ARENA_JOIN, "Player", "16 / 16");
+    }
+}
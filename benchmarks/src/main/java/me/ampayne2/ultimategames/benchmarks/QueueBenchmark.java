@@ -0,0 +1,84 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.core.arenas.UQueueManager;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link me.ampayne2.ultimategames.core.arenas.UQueueManager#removePlayerFromQueues(org.bukkit.entity.Player)},
+ * which runs every time a player joins or leaves an arena, with 100 arenas that each have a queue of 50 players.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueueBenchmark {
+    private static final int ARENAS = 100;
+    private static final int QUEUE_LENGTH = 50;
+    private UQueueManager queueManager;
+    private Arena arena;
+    private Player queuedPlayer;
+    private Player unqueuedPlayer;
+
+    @Setup
+    public void setUp() throws Exception {
+        UltimateGamesFixture fixture = UltimateGamesFixture.get();
+        queueManager = fixture.getUltimateGames().getQueueManager();
+        List<Arena> arenas = fixture.createArenas(ARENAS);
+        for (Arena queueArena : arenas) {
+            for (int i = 0; i < QUEUE_LENGTH; i++) {
+                queueManager.addPlayerToQueue(fixture.createPlayer().getPlayer(), queueArena);
+            }
+        }
+        arena = arenas.get(ARENAS / 2);
+        queuedPlayer = fixture.createPlayer().getPlayer();
+        unqueuedPlayer = fixture.createPlayer().getPlayer();
+    }
+
+    /**
+     * Queues a player and removes them again, so every invocation removes a queued player.
+     */
+    @Benchmark
+    public void addAndRemoveQueuedPlayer() {
+        queueManager.addPlayerToQueue(queuedPlayer, arena);
+        queueManager.removePlayerFromQueues(queuedPlayer);
+    }
+
+    @Benchmark
+    public void removeUnqueuedPlayer() {
+        queueManager.removePlayerFromQueues(unqueuedPlayer);
+    }
+}
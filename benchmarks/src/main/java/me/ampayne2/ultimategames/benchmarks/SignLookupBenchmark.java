@@ -0,0 +1,82 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.signs.SignType;
+import me.ampayne2.ultimategames.benchmarks.server.FakeSign;
+import me.ampayne2.ultimategames.core.signs.LobbySign;
+import me.ampayne2.ultimategames.core.signs.USign;
+import me.ampayne2.ultimategames.core.signs.USignManager;
+import org.bukkit.Location;
+import org.bukkit.block.Sign;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link me.ampayne2.ultimategames.core.signs.USignManager#getSign(org.bukkit.block.Sign)}, which runs for
+ * every sign click and redstone change, with a lobby sign for each of 200 arenas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SignLookupBenchmark {
+    private static final int ARENAS = 200;
+    private USignManager signManager;
+    private Sign[] signs;
+    private Sign otherSign;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        UltimateGamesFixture fixture = UltimateGamesFixture.get();
+        signManager = fixture.getUltimateGames().getSignManager();
+        List<Arena> arenas = fixture.createArenas(ARENAS);
+        signs = new Sign[ARENAS];
+        for (int i = 0; i < ARENAS; i++) {
+            signs[i] = new FakeSign(new Location(fixture.getWorld(), i, 65, -8)).getSign();
+            signManager.addSign(new LobbySign(fixture.getUltimateGames(), signs[i], arenas.get(i)), SignType.LOBBY);
+        }
+        otherSign = new FakeSign(new Location(fixture.getWorld(), 0, 65, -16)).getSign();
+    }
+
+    @Benchmark
+    public USign getSign() {
+        return signManager.getSign(signs[next++ % ARENAS]);
+    }
+
+    @Benchmark
+    public USign getUnregisteredSign() {
+        return signManager.getSign(otherSign);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.players.teams.Team;
+import me.ampayne2.ultimategames.benchmarks.server.FakePlayer;
+import me.ampayne2.ultimategames.core.players.teams.UTeam;
+import me.ampayne2.ultimategames.core.players.teams.UTeamManager;
+import org.bukkit.ChatColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link me.ampayne2.ultimategames.core.players.teams.UTeamManager#getPlayerTeam(String)}, which runs for
+ * every damage event between players in an arena, with 100 arenas of 4 full teams.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamLookupBenchmark {
+    private static final int ARENAS = 100;
+    private static final ChatColor[] COLORS = {ChatColor.RED, ChatColor.BLUE, ChatColor.GREEN, ChatColor.YELLOW};
+    private static final int PLAYERS_PER_TEAM = UltimateGamesFixture.MAX_PLAYERS / COLORS.length;
+    private UTeamManager teamManager;
+    private String[] playerNames;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        UltimateGamesFixture fixture = UltimateGamesFixture.get();
+        teamManager = fixture.getUltimateGames().getTeamManager();
+        List<Arena> arenas = fixture.createArenas(ARENAS);
+        playerNames = new String[ARENAS * COLORS.length * PLAYERS_PER_TEAM];
+        int index = 0;
+        for (Arena arena : arenas) {
+            for (ChatColor color : COLORS) {
+                Team team = teamManager.createTeam(fixture.getUltimateGames(), color.name(), arena, color, false, false);
+                for (int i = 0; i < PLAYERS_PER_TEAM; i++) {
+                    FakePlayer player = fixture.createPlayer();
+                    ((UTeam) team).addPlayer(player.getPlayer());
+                    playerNames[index++] = player.getName();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Team getPlayerTeam() {
+        return teamManager.getPlayerTeam(playerNames[next++ % playerNames.length]);
+    }
+
+    @Benchmark
+    public Team getTeamOfPlayerNotInTeam() {
+        return teamManager.getPlayerTeam("NotInATeam");
+    }
+}
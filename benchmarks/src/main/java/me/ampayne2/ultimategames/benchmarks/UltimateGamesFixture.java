@@ -0,0 +1,233 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.arenas.spawnpoints.PlayerSpawnPoint;
+import me.ampayne2.ultimategames.api.games.Game;
+import me.ampayne2.ultimategames.api.games.PlayerType;
+import me.ampayne2.ultimategames.benchmarks.server.FakePlayer;
+import me.ampayne2.ultimategames.benchmarks.server.FakeServer;
+import me.ampayne2.ultimategames.benchmarks.server.Stubs;
+import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.arenas.UArena;
+import me.ampayne2.ultimategames.core.games.UGame;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Boots the real {@link me.ampayne2.ultimategames.core.UG} plugin against a
+ * {@link me.ampayne2.ultimategames.benchmarks.server.FakeServer} with a temporary data folder and a
+ * {@link me.ampayne2.ultimategames.benchmarks.BenchmarkGamePlugin} game.<br>
+ * The web API is disabled and saves are written behind, so the fixture measures the plugin and not the disk.
+ */
+public class UltimateGamesFixture {
+    public static final String GAME_NAME = "Benchmark";
+    public static final int ARENA_SIZE = 32;
+    public static final int ARENA_SPACING = 64;
+    public static final int ARENAS_PER_ROW = 32;
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 16;
+    private static UltimateGamesFixture instance;
+    private final FakeServer server;
+    private final File dataFolder;
+    private final World world;
+    private final UG ultimateGames;
+    private final BenchmarkGamePlugin gamePlugin;
+    private final Game game;
+    private final List<Arena> arenas = new ArrayList<>();
+    private int playerCount;
+    private boolean shutdown;
+
+    private UltimateGamesFixture() throws Exception {
+        server = FakeServer.get();
+        world = server.getOrCreateWorld("world");
+        dataFolder = Files.createTempDirectory("ultimategames-benchmarks").toFile();
+        File pluginFolder = new File(dataFolder, "UltimateGames");
+        if (!pluginFolder.mkdirs()) {
+            throw new IOException("Failed to create " + pluginFolder);
+        }
+        Files.write(new File(pluginFolder, "config.yml").toPath(), "enableAPI: false\nWriteBehindSaves: true\n".getBytes(StandardCharsets.UTF_8));
+
+        ultimateGames = createPlugin(pluginFolder);
+        ultimateGames.onEnable();
+        ultimateGames.getLobbyManager().setLobby(new Location(world, 0, 64, 0));
+
+        gamePlugin = new BenchmarkGamePlugin();
+        game = new UGame(gamePlugin, GAME_NAME, "A game used by the benchmarks.", "1.0", "UltimateGames", new ArrayList<String>(), PlayerType.CONFIGUREABLE, new ArrayList<String>());
+        gamePlugin.loadGame(ultimateGames, game);
+        ultimateGames.getGameManager().addGame(game);
+        ultimateGames.getConfigManager().getGameConfig(game).set("DefaultSettings.MinPlayers", MIN_PLAYERS);
+        ultimateGames.getConfigManager().getGameConfig(game).set("DefaultSettings.MaxPlayers", MAX_PLAYERS);
+        server.getPluginManager().getPluginManager().registerEvents(gamePlugin, ultimateGames);
+    }
+
+    /**
+     * Gets the fixture of this JVM, booting it if this is the first call.
+     *
+     * @return The fixture.
+     * @throws Exception If the plugin can't be booted.
+     */
+    public static synchronized UltimateGamesFixture get() throws Exception {
+        if (instance == null) {
+            instance = new UltimateGamesFixture();
+            Runtime.getRuntime().addShutdownHook(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        instance.shutdown();
+                    } catch (IOException e) {
+                        Logger.getLogger(UltimateGamesFixture.class.getName()).log(Level.WARNING, "Failed to delete the benchmark data folder", e);
+                    }
+                }
+            });
+        }
+        return instance;
+    }
+
+    /**
+     * Creates the plugin with the constructor {@link org.bukkit.plugin.java.JavaPlugin} provides for running outside of
+     * a plugin class loader.
+     *
+     * @param pluginFolder The data folder of the plugin.
+     * @return The plugin.
+     */
+    private UG createPlugin(File pluginFolder) {
+        return new UG(Stubs.stub(PluginLoader.class), server.getServer(), new PluginDescriptionFile("UltimateGames", "benchmark", UG.class.getName()),
+                pluginFolder, new File(dataFolder, "UltimateGames.jar")) {
+        };
+    }
+
+    /**
+     * Creates arenas of the benchmark game in a grid, each with four spawn points, and opens them.
+     *
+     * @param amount The amount of arenas to create.
+     * @return The created arenas.
+     */
+    public List<Arena> createArenas(int amount) {
+        List<Arena> created = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            int index = arenas.size();
+            int x = (index % ARENAS_PER_ROW) * ARENA_SPACING;
+            int z = (index / ARENAS_PER_ROW) * ARENA_SPACING;
+            UArena arena = new UArena(ultimateGames, game, "arena" + index, new Location(world, x, 0, z), new Location(world, x + ARENA_SIZE - 1, 128, z + ARENA_SIZE - 1));
+            ultimateGames.getArenaManager().addArena(arena);
+            for (int corner = 0; corner < 4; corner++) {
+                Location spawn = new Location(world, x + 4 + (corner % 2) * (ARENA_SIZE - 8), 64, z + 4 + (corner / 2) * (ARENA_SIZE - 8));
+                ultimateGames.getSpawnpointManager().addSpawnPoint(new PlayerSpawnPoint(ultimateGames, arena, spawn, false));
+            }
+            ultimateGames.getArenaManager().openArena(arena);
+            arenas.add(arena);
+            created.add(arena);
+        }
+        return created;
+    }
+
+    /**
+     * Connects a new player to the server at the lobby.
+     *
+     * @return The {@link me.ampayne2.ultimategames.benchmarks.server.FakePlayer}.
+     */
+    public FakePlayer createPlayer() {
+        return server.addPlayer("Player" + (playerCount++), ultimateGames.getLobbyManager().getLobby());
+    }
+
+    /**
+     * Gets the center of an arena created by the fixture.
+     *
+     * @param arena The arena.
+     * @return The center location.
+     */
+    public Location getCenter(Arena arena) {
+        Location minimum = ((UArena) arena).getRegion().getMinimumLocation();
+        return new Location(world, minimum.getX() + ARENA_SIZE / 2, 64, minimum.getZ() + ARENA_SIZE / 2);
+    }
+
+    /**
+     * Runs one server tick.
+     */
+    public void tick() {
+        server.getScheduler().tick();
+    }
+
+    /**
+     * Disables the plugin and deletes the temporary data folder. Called automatically when the JVM exits.
+     *
+     * @throws IOException If the data folder can't be deleted.
+     */
+    public synchronized void shutdown() throws IOException {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        ultimateGames.onDisable();
+        Files.walkFileTree(dataFolder.toPath(), new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                Files.delete(directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    public FakeServer getServer() {
+        return server;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public UG getUltimateGames() {
+        return ultimateGames;
+    }
+
+    public BenchmarkGamePlugin getGamePlugin() {
+        return gamePlugin;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public List<Arena> getArenas() {
+        return arenas;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.server;
+
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * A stand-in for the {@link org.bukkit.inventory.ItemFactory} whose item meta only keeps a display name and lore,
+ * which is all UltimateGames reads from items.
+ */
+public class FakeItemFactory implements Stubs.Handler {
+    private final ItemFactory itemFactory;
+
+    /**
+     * Creates a new FakeItemFactory.
+     */
+    public FakeItemFactory() {
+        itemFactory = Stubs.stub(ItemFactory.class, this);
+    }
+
+    /**
+     * Gets the item factory.
+     *
+     * @return The item factory.
+     */
+    public ItemFactory getItemFactory() {
+        return itemFactory;
+    }
+
+    @Override
+    public Object handle(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getItemMeta":
+                return new Meta(null, null).meta;
+            case "isApplicable":
+                return true;
+            case "asMetaFor":
+                return args[0];
+            case "equals":
+                if (args.length == 2) {
+                    return metaEquals((ItemMeta) args[0], (ItemMeta) args[1]);
+                }
+                return Stubs.UNHANDLED;
+            default:
+                return Stubs.UNHANDLED;
+        }
+    }
+
+    /**
+     * Compares two item metas the way the server does, where null equals an empty meta.
+     *
+     * @param meta1 The first meta.
+     * @param meta2 The second meta.
+     * @return True if the metas are equal.
+     */
+    private static boolean metaEquals(ItemMeta meta1, ItemMeta meta2) {
+        boolean empty1 = meta1 == null || (!meta1.hasDisplayName() && !meta1.hasLore());
+        boolean empty2 = meta2 == null || (!meta2.hasDisplayName() && !meta2.hasLore());
+        if (empty1 || empty2) {
+            return empty1 && empty2;
+        }
+        return equal(meta1.getDisplayName(), meta2.getDisplayName()) && equal(meta1.getLore(), meta2.getLore());
+    }
+
+    private static boolean equal(Object object1, Object object2) {
+        return object1 == null ? object2 == null : object1.equals(object2);
+    }
+
+    private static class Meta implements Stubs.Handler {
+        private final ItemMeta meta;
+        private String displayName;
+        private List<String> lore;
+
+        private Meta(String displayName, List<String> lore) {
+            this.displayName = displayName;
+            this.lore = lore;
+            this.meta = Stubs.stub(ItemMeta.class, this);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object handle(Method method, Object[] args) {
+            switch (method.getName()) {
+                case "hasDisplayName":
+                    return displayName != null;
+                case "getDisplayName":
+                    return displayName;
+                case "setDisplayName":
+                    displayName = (String) args[0];
+                    return null;
+                case "hasLore":
+                    return lore != null;
+                case "getLore":
+                    return lore;
+                case "setLore":
+                    lore = (List<String>) args[0];
+                    return null;
+                case "clone":
+                    return new Meta(displayName, lore).meta;
+                case "equals":
+                    if (args.length == 1) {
+                        return args[0] instanceof ItemMeta && metaEquals(meta, (ItemMeta) args[0]);
+                    }
+                    return Stubs.UNHANDLED;
+                case "hashCode":
+                    return (displayName == null ? 0 : displayName.hashCode()) * 31 + (lore == null ? 0 : lore.hashCode());
+                default:
+                    return Stubs.UNHANDLED;
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.server;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+/**
+ * A stand-in for an online bukkit {@link org.bukkit.entity.Player} with a location and a message counter.
+ */
+public class FakePlayer implements Stubs.Handler {
+    private final String name;
+    private final UUID uniqueId;
+    private final Player player;
+    private Location location;
+    private GameMode gameMode = GameMode.SURVIVAL;
+    private long messagesReceived;
+
+    /**
+     * Creates a new FakePlayer.
+     *
+     * @param name     The name of the player.
+     * @param location The location of the player.
+     */
+    public FakePlayer(String name, Location location) {
+        this.name = name;
+        this.uniqueId = UUID.nameUUIDFromBytes(name.getBytes());
+        this.location = location.clone();
+        this.player = Stubs.stub(Player.class, this);
+    }
+
+    /**
+     * Gets the player.
+     *
+     * @return The player.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Moves the player without calling any events.
+     *
+     * @param location The new location.
+     */
+    public void setLocation(Location location) {
+        this.location = location.clone();
+    }
+
+    /**
+     * Gets the amount of messages the player received.
+     *
+     * @return The amount of messages.
+     */
+    public long getMessagesReceived() {
+        return messagesReceived;
+    }
+
+    @Override
+    public Object handle(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getName":
+            case "getDisplayName":
+            case "getPlayerListName":
+                return name;
+            case "getUniqueId":
+                return uniqueId;
+            case "getLocation":
+                if (args.length == 1) {
+                    Location target = (Location) args[0];
+                    target.setWorld(location.getWorld());
+                    target.setX(location.getX());
+                    target.setY(location.getY());
+                    target.setZ(location.getZ());
+                    target.setYaw(location.getYaw());
+                    target.setPitch(location.getPitch());
+                    return target;
+                }
+                return location.clone();
+            case "getEyeLocation":
+                return location.clone().add(0, 1.62, 0);
+            case "getWorld":
+                return location.getWorld();
+            case "teleport":
+                if (args[0] instanceof Location) {
+                    location = ((Location) args[0]).clone();
+                } else if (args[0] instanceof Entity) {
+                    location = ((Entity) args[0]).getLocation();
+                }
+                return true;
+            case "sendMessage":
+            case "sendRawMessage":
+                messagesReceived++;
+                return null;
+            case "getGameMode":
+                return gameMode;
+            case "setGameMode":
+                gameMode = (GameMode) args[0];
+                return null;
+            case "isOnline":
+            case "isValid":
+            case "hasPermission":
+                return true;
+            case "getHealth":
+            case "getMaxHealth":
+                return 20D;
+            case "getFoodLevel":
+                return 20;
+            case "toString":
+                return "FakePlayer{name=" + name + "}";
+            default:
+                return Stubs.UNHANDLED;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.server;
+
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A stand-in for the {@link org.bukkit.plugin.PluginManager} that dispatches events to registered listeners by
+ * priority, the same way the server does. No other plugins are ever enabled.
+ */
+public class FakePluginManager implements Stubs.Handler {
+    private final PluginManager pluginManager;
+    private final List<RegisteredHandler> handlers = new ArrayList<>();
+    private final Map<Class<?>, List<RegisteredHandler>> handlersByEvent = new HashMap<>();
+    private long eventsCalled;
+
+    /**
+     * Creates a new FakePluginManager.
+     */
+    public FakePluginManager() {
+        pluginManager = Stubs.stub(PluginManager.class, this);
+    }
+
+    /**
+     * Gets the plugin manager.
+     *
+     * @return The plugin manager.
+     */
+    public PluginManager getPluginManager() {
+        return pluginManager;
+    }
+
+    /**
+     * Gets the amount of events that have been called.
+     *
+     * @return The amount of events.
+     */
+    public long getEventsCalled() {
+        return eventsCalled;
+    }
+
+    @Override
+    public Object handle(Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "registerEvents":
+                registerEvents((Listener) args[0]);
+                return null;
+            case "callEvent":
+                callEvent((Event) args[0]);
+                return null;
+            case "isPluginEnabled":
+                return false;
+            case "getPlugin":
+                return null;
+            default:
+                return Stubs.UNHANDLED;
+        }
+    }
+
+    /**
+     * Registers the event handlers of a listener.
+     *
+     * @param listener The listener.
+     */
+    private void registerEvents(Listener listener) {
+        for (Method method : listener.getClass().getMethods()) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation != null && method.getParameterTypes().length == 1 && Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                method.setAccessible(true);
+                handlers.add(new RegisteredHandler(listener, method, annotation));
+            }
+        }
+        handlersByEvent.clear();
+    }
+
+    /**
+     * Calls an event on every handler that listens to it.
+     *
+     * @param event The event.
+     * @throws Throwable If a handler throws.
+     */
+    private void callEvent(Event event) throws Throwable {
+        eventsCalled++;
+        List<RegisteredHandler> eventHandlers = handlersByEvent.get(event.getClass());
+        if (eventHandlers == null) {
+            eventHandlers = new ArrayList<>();
+            for (RegisteredHandler handler : handlers) {
+                if (handler.method.getParameterTypes()[0].isAssignableFrom(event.getClass())) {
+                    eventHandlers.add(handler);
+                }
+            }
+            Collections.sort(eventHandlers, new Comparator<RegisteredHandler>() {
+                @Override
+                public int compare(RegisteredHandler handler1, RegisteredHandler handler2) {
+                    return handler1.annotation.priority().compareTo(handler2.annotation.priority());
+                }
+            });
+            handlersByEvent.put(event.getClass(), eventHandlers);
+        }
+        for (RegisteredHandler handler : eventHandlers) {
+            if (handler.annotation.ignoreCancelled() && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+                continue;
+            }
+            try {
+                handler.method.invoke(handler.listener, event);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static class RegisteredHandler {
+        private final Listener listener;
+        private final Method method;
+        private final EventHandler annotation;
+
+        private RegisteredHandler(Listener listener, Method method, EventHandler annotation) {
+            this.listener = listener;
+            this.method = method;
+            this.annotation = annotation;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.server;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A stand-in for the {@link org.bukkit.scheduler.BukkitScheduler} that runs synchronous tasks when it is ticked.<br>
+ * Asynchronous tasks are accepted but never run, so nothing like MCStats reaches the network.
+ */
+public class FakeScheduler implements Stubs.Handler {
+    private final BukkitScheduler scheduler;
+    private final Map<Integer, Task> tasks = new LinkedHashMap<>();
+    private int nextTaskId = 1;
+    private long currentTick;
+
+    /**
+     * Creates a new FakeScheduler.
+     */
+    public FakeScheduler() {
+        scheduler = Stubs.stub(BukkitScheduler.class, this);
+    }
+
+    /**
+     * Gets the scheduler.
+     *
+     * @return The scheduler.
+     */
+    public BukkitScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets the amount of ticks that have been run.
+     *
+     * @return The current tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the amount of pending synchronous tasks.
+     *
+     * @return The amount of tasks.
+     */
+    public int getPendingTasks() {
+        int pending = 0;
+        for (Task task : tasks.values()) {
+            if (task.sync) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Runs one server tick, running every synchronous task that is due in the order they were scheduled.
+     */
+    public void tick() {
+        currentTick++;
+        List<Task> due = new ArrayList<>();
+        for (Task task : tasks.values()) {
+            if (task.sync && task.nextRun <= currentTick) {
+                due.add(task);
+            }
+        }
+        for (Task task : due) {
+            if (task.cancelled) {
+                continue;
+            }
+            task.runnable.run();
+            if (task.period > 0 && !task.cancelled) {
+                task.nextRun = currentTick + task.period;
+            } else {
+                tasks.remove(task.id);
+            }
+        }
+    }
+
+    @Override
+    public Object handle(Method method, Object[] args) {
+        String name = method.getName();
+        switch (name) {
+            case "runTask":
+                return schedule((Plugin) args[0], (Runnable) args[1], 0, -1, true).handle;
+            case "runTaskLater":
+                return schedule((Plugin) args[0], (Runnable) args[1], (Long) args[2], -1, true).handle;
+            case "runTaskTimer":
+                return schedule((Plugin) args[0], (Runnable) args[1], (Long) args[2], (Long) args[3], true).handle;
+            case "runTaskAsynchronously":
+                return schedule((Plugin) args[0], (Runnable) args[1], 0, -1, false).handle;
+            case "runTaskLaterAsynchronously":
+                return schedule((Plugin) args[0], (Runnable) args[1], (Long) args[2], -1, false).handle;
+            case "runTaskTimerAsynchronously":
+                return schedule((Plugin) args[0], (Runnable) args[1], (Long) args[2], (Long) args[3], false).handle;
+            case "scheduleSyncDelayedTask":
+                return schedule((Plugin) args[0], (Runnable) args[1], args.length > 2 ? (Long) args[2] : 0, -1, true).id;
+            case "scheduleSyncRepeatingTask":
+                return schedule((Plugin) args[0], (Runnable) args[1], (Long) args[2], (Long) args[3], true).id;
+            case "cancelTask":
+                cancel((Integer) args[0]);
+                return null;
+            case "cancelTasks":
+            case "cancelAllTasks":
+                for (Task task : tasks.values()) {
+                    task.cancelled = true;
+                }
+                tasks.clear();
+                return null;
+            case "isQueued":
+            case "isCurrentlyRunning":
+                return tasks.containsKey(args[0]);
+            default:
+                return Stubs.UNHANDLED;
+        }
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param owner    The plugin that owns the task.
+     * @param runnable The task.
+     * @param delay    The delay in ticks.
+     * @param period   The period in ticks, or -1 to run once.
+     * @param sync     If the task is synchronous.
+     * @return The task.
+     */
+    private Task schedule(Plugin owner, Runnable runnable, long delay, long period, boolean sync) {
+        Task task = new Task(nextTaskId++, owner, runnable, currentTick + Math.max(1, delay), period, sync);
+        tasks.put(task.id, task);
+        return task;
+    }
+
+    /**
+     * Cancels a task.
+     *
+     * @param taskId The id of the task.
+     */
+    private void cancel(int taskId) {
+        Task task = tasks.remove(taskId);
+        if (task != null) {
+            task.cancelled = true;
+        }
+    }
+
+    private class Task implements Stubs.Handler {
+        private final int id;
+        private final Plugin owner;
+        private final Runnable runnable;
+        private final long period;
+        private final boolean sync;
+        private final BukkitTask handle;
+        private long nextRun;
+        private boolean cancelled;
+
+        private Task(int id, Plugin owner, Runnable runnable, long nextRun, long period, boolean sync) {
+            this.id = id;
+            this.owner = owner;
+            this.runnable = runnable;
+            this.nextRun = nextRun;
+            this.period = period;
+            this.sync = sync;
+            this.handle = Stubs.stub(BukkitTask.class, this);
+        }
+
+        @Override
+        public Object handle(Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getTaskId":
+                    return id;
+                case "getOwner":
+                    return owner;
+                case "isSync":
+                    return sync;
+                case "cancel":
+                    FakeScheduler.this.cancel(id);
+                    return null;
+                default:
+                    return Stubs.UNHANDLED;
+            }
+        }
+    }
+}
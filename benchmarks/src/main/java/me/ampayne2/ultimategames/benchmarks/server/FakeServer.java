@@ -0,0 +1,230 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.server;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An in-process stand-in for the bukkit {@link org.bukkit.Server} with worlds, online players, a
+ * {@link me.ampayne2.ultimategames.benchmarks.server.FakeScheduler} and a
+ * {@link me.ampayne2.ultimategames.benchmarks.server.FakePluginManager}.<br>
+ * Bukkit only accepts one server per JVM, so the server is installed once and shared.
+ */
+public class FakeServer implements Stubs.Handler {
+    private static FakeServer instance;
+    private final Server server;
+    private final Logger logger = Logger.getLogger("FakeServer");
+    private final FakeScheduler scheduler = new FakeScheduler();
+    private final FakePluginManager pluginManager = new FakePluginManager();
+    private final FakeItemFactory itemFactory = new FakeItemFactory();
+    private final Map<String, FakeWorld> worlds = new LinkedHashMap<>();
+    private final Map<String, FakePlayer> players = new HashMap<>();
+    private final Map<String, PluginCommand> commands = new HashMap<>();
+
+    private FakeServer() {
+        server = Stubs.stub(Server.class, this);
+        ConsoleHandler handler = new ConsoleHandler();
+        handler.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+    }
+
+    /**
+     * Gets the installed FakeServer, installing it as the bukkit server if this is the first call.
+     *
+     * @return The FakeServer.
+     */
+    public static synchronized FakeServer get() {
+        if (instance == null) {
+            instance = new FakeServer();
+            Bukkit.setServer(instance.server);
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the server.
+     *
+     * @return The server.
+     */
+    public Server getServer() {
+        return server;
+    }
+
+    /**
+     * Gets the scheduler of the server.
+     *
+     * @return The {@link me.ampayne2.ultimategames.benchmarks.server.FakeScheduler}.
+     */
+    public FakeScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets the plugin manager of the server.
+     *
+     * @return The {@link me.ampayne2.ultimategames.benchmarks.server.FakePluginManager}.
+     */
+    public FakePluginManager getPluginManager() {
+        return pluginManager;
+    }
+
+    /**
+     * Gets a world of the server, creating it if it doesn't exist.
+     *
+     * @param name The name of the world.
+     * @return The world.
+     */
+    public World getOrCreateWorld(String name) {
+        FakeWorld world = worlds.get(name);
+        if (world == null) {
+            world = new FakeWorld(name);
+            worlds.put(name, world);
+        }
+        return world.getWorld();
+    }
+
+    /**
+     * Connects a player to the server.
+     *
+     * @param name     The name of the player.
+     * @param location The location of the player.
+     * @return The {@link me.ampayne2.ultimategames.benchmarks.server.FakePlayer}.
+     */
+    public FakePlayer addPlayer(String name, Location location) {
+        FakePlayer player = new FakePlayer(name, location);
+        players.put(name.toLowerCase(), player);
+        return player;
+    }
+
+    /**
+     * Disconnects a player from the server.
+     *
+     * @param name The name of the player.
+     */
+    public void removePlayer(String name) {
+        players.remove(name.toLowerCase());
+    }
+
+    /**
+     * Gets the online players of the server.
+     *
+     * @return The players.
+     */
+    public Collection<FakePlayer> getPlayers() {
+        return players.values();
+    }
+
+    @Override
+    public Object handle(Method method, Object[] args) throws Exception {
+        switch (method.getName()) {
+            case "getName":
+                return "FakeServer";
+            case "getVersion":
+            case "getBukkitVersion":
+                return "1.7.9-R0.1-SNAPSHOT";
+            case "getLogger":
+                return logger;
+            case "getScheduler":
+                return scheduler.getScheduler();
+            case "getPluginManager":
+                return pluginManager.getPluginManager();
+            case "getItemFactory":
+                return itemFactory.getItemFactory();
+            case "getPlayerExact":
+            case "getPlayer":
+                if (args[0] instanceof String) {
+                    FakePlayer player = players.get(((String) args[0]).toLowerCase());
+                    return player == null ? null : player.getPlayer();
+                }
+                return null;
+            case "getOnlinePlayers":
+                Player[] online = new Player[players.size()];
+                int i = 0;
+                for (FakePlayer player : players.values()) {
+                    online[i++] = player.getPlayer();
+                }
+                return online;
+            case "getWorld":
+                if (args[0] instanceof String) {
+                    FakeWorld world = worlds.get(args[0]);
+                    return world == null ? null : world.getWorld();
+                }
+                for (FakeWorld world : worlds.values()) {
+                    if (world.getWorld().getUID().equals(args[0])) {
+                        return world.getWorld();
+                    }
+                }
+                return null;
+            case "getWorlds":
+                List<World> worldList = new ArrayList<>();
+                for (FakeWorld world : worlds.values()) {
+                    worldList.add(world.getWorld());
+                }
+                return worldList;
+            case "getPluginCommand":
+                return getPluginCommand((String) args[0]);
+            case "broadcastMessage":
+                for (FakePlayer player : players.values()) {
+                    player.getPlayer().sendMessage((String) args[0]);
+                }
+                return players.size();
+            case "isPrimaryThread":
+                return true;
+            default:
+                return Stubs.UNHANDLED;
+        }
+    }
+
+    /**
+     * Gets a plugin command, creating it if it doesn't exist. The command has no owner.
+     *
+     * @param name The name of the command.
+     * @return The command.
+     * @throws Exception If the command can't be created.
+     */
+    private PluginCommand getPluginCommand(String name) throws Exception {
+        PluginCommand command = commands.get(name);
+        if (command == null) {
+            Constructor<PluginCommand> constructor = PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
+            constructor.setAccessible(true);
+            command = constructor.newInstance(name, null);
+            commands.put(name, command);
+        }
+        return command;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.server;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Sign;
+
+import java.lang.reflect.Method;
+
+/**
+ * A stand-in for a bukkit {@link org.bukkit.block.Sign} block state at a fixed location.
+ */
+public class FakeSign implements Stubs.Handler {
+    private final Location location;
+    private final String[] lines = {"", "", "", ""};
+    private final Sign sign;
+
+    /**
+     * Creates a new FakeSign.
+     *
+     * @param location The location of the sign.
+     */
+    public FakeSign(Location location) {
+        this.location = location.clone();
+        this.sign = Stubs.stub(Sign.class, this);
+    }
+
+    /**
+     * Gets the sign.
+     *
+     * @return The sign.
+     */
+    public Sign getSign() {
+        return sign;
+    }
+
+    @Override
+    public Object handle(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getLocation":
+                return location.clone();
+            case "getWorld":
+                return location.getWorld();
+            case "getX":
+                return location.getBlockX();
+            case "getY":
+                return location.getBlockY();
+            case "getZ":
+                return location.getBlockZ();
+            case "getLines":
+                return lines.clone();
+            case "getLine":
+                return lines[(Integer) args[0]];
+            case "setLine":
+                lines[(Integer) args[0]] = (String) args[1];
+                return null;
+            case "update":
+                return true;
+            case "getType":
+                return Material.WALL_SIGN;
+            default:
+                return Stubs.UNHANDLED;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.server;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A stand-in for a bukkit {@link org.bukkit.World}. Every block is air unless its type was set.
+ */
+public class FakeWorld implements Stubs.Handler {
+    private final String name;
+    private final UUID uid;
+    private final World world;
+    private final Map<Long, Material> blockTypes = new HashMap<>();
+
+    /**
+     * Creates a new FakeWorld.
+     *
+     * @param name The name of the world.
+     */
+    public FakeWorld(String name) {
+        this.name = name;
+        this.uid = UUID.nameUUIDFromBytes(name.getBytes());
+        this.world = Stubs.stub(World.class, this);
+    }
+
+    /**
+     * Gets the world.
+     *
+     * @return The world.
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Sets the type of a block.
+     *
+     * @param x        The x coordinate of the block.
+     * @param y        The y coordinate of the block.
+     * @param z        The z coordinate of the block.
+     * @param material The type.
+     */
+    public void setType(int x, int y, int z, Material material) {
+        blockTypes.put(toKey(x, y, z), material);
+    }
+
+    @Override
+    public Object handle(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getName":
+                return name;
+            case "getUID":
+                return uid;
+            case "getSpawnLocation":
+                return new Location(world, 0, 64, 0);
+            case "getBlockAt":
+                if (args.length == 1) {
+                    Location location = (Location) args[0];
+                    return getBlockAt(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+                }
+                return getBlockAt((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+            case "toString":
+                return "FakeWorld{name=" + name + "}";
+            default:
+                return Stubs.UNHANDLED;
+        }
+    }
+
+    /**
+     * Gets a stand-in for a block of the world.
+     *
+     * @param x The x coordinate of the block.
+     * @param y The y coordinate of the block.
+     * @param z The z coordinate of the block.
+     * @return The block.
+     */
+    private Block getBlockAt(final int x, final int y, final int z) {
+        return Stubs.stub(Block.class, new Stubs.Handler() {
+            @Override
+            public Object handle(Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "getType":
+                        Material material = blockTypes.get(toKey(x, y, z));
+                        return material == null ? Material.AIR : material;
+                    case "setType":
+                        setType(x, y, z, (Material) args[0]);
+                        return args.length > 1 ? true : null;
+                    case "getWorld":
+                        return world;
+                    case "getX":
+                        return x;
+                    case "getY":
+                        return y;
+                    case "getZ":
+                        return z;
+                    case "getLocation":
+                        return new Location(world, x, y, z);
+                    case "getRelative":
+                        if (args.length == 1) {
+                            BlockFace face = (BlockFace) args[0];
+                            return getBlockAt(x + face.getModX(), y + face.getModY(), z + face.getModZ());
+                        }
+                        return getBlockAt(x + (Integer) args[0], y + (Integer) args[1], z + (Integer) args[2]);
+                    default:
+                        return Stubs.UNHANDLED;
+                }
+            }
+        });
+    }
+
+    private static long toKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | y & 0xFFF;
+    }
+}
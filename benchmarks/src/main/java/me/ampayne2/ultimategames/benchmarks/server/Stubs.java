@@ -0,0 +1,174 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.server;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates lightweight proxy stand-ins for Bukkit interfaces.<br>
+ * Methods that aren't handled explicitly return an empty value for their return type, and interface return types get
+ * a cached stub of their own, so code under test can call through objects like a player's inventory without failing.
+ */
+public final class Stubs {
+    /**
+     * Returned by a {@link me.ampayne2.ultimategames.benchmarks.server.Stubs.Handler} for methods it doesn't handle.
+     */
+    public static final Object UNHANDLED = new Object();
+
+    private Stubs() {
+    }
+
+    /**
+     * Creates a stub of an interface.
+     *
+     * @param type    The interface.
+     * @param handler Handles the methods of the stub. Returns {@link #UNHANDLED} to fall back to the default value.
+     * @param <T>     The type of the interface.
+     * @return The stub.
+     */
+    public static <T> T stub(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class<?>[]{type}, new StubInvocationHandler(handler)));
+    }
+
+    /**
+     * Creates a stub of an interface that only returns default values.
+     *
+     * @param type The interface.
+     * @param <T>  The type of the interface.
+     * @return The stub.
+     */
+    public static <T> T stub(Class<T> type) {
+        return stub(type, null);
+    }
+
+    /**
+     * Handles the methods of a stub.
+     */
+    public interface Handler {
+
+        /**
+         * Handles a method call.
+         *
+         * @param method The method.
+         * @param args   The arguments, never null.
+         * @return The result, or {@link me.ampayne2.ultimategames.benchmarks.server.Stubs#UNHANDLED}.
+         * @throws Throwable If the method throws.
+         */
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    /**
+     * Gets the empty value of a type.
+     *
+     * @param type The type.
+     * @return The value.
+     */
+    private static Object emptyValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0D;
+        } else if (type == float.class) {
+            return 0F;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == char.class) {
+            return (char) 0;
+        } else if (type == String.class) {
+            return "";
+        } else if (type.isArray()) {
+            return Array.newInstance(type.getComponentType(), 0);
+        } else if (type == List.class || type == Collection.class) {
+            return new ArrayList<>();
+        } else if (type == Set.class) {
+            return new HashSet<>();
+        } else if (type == Map.class) {
+            return new HashMap<>();
+        }
+        return null;
+    }
+
+    private static class StubInvocationHandler implements InvocationHandler {
+        private static final Object[] NO_ARGS = new Object[0];
+        private final Handler handler;
+        private final Map<Method, Object> children = new ConcurrentHashMap<>();
+
+        private StubInvocationHandler(Handler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (args == null) {
+                args = NO_ARGS;
+            }
+            if (handler != null) {
+                Object result = handler.handle(method, args);
+                if (result != UNHANDLED) {
+                    return result;
+                }
+            }
+            switch (method.getName()) {
+                case "equals":
+                    if (args.length == 1) {
+                        return proxy == args[0];
+                    }
+                    break;
+                case "hashCode":
+                    if (args.length == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    break;
+                case "toString":
+                    if (args.length == 0) {
+                        return "Stub" + proxy.getClass().getInterfaces()[0].getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                    }
+                    break;
+                default:
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType.isInterface() && !Collection.class.isAssignableFrom(returnType) && !Map.class.isAssignableFrom(returnType)) {
+                Object child = children.get(method);
+                if (child == null) {
+                    child = stub(returnType);
+                    children.put(method, child);
+                }
+                return child;
+            }
+            return emptyValue(returnType);
+        }
+    }
+}
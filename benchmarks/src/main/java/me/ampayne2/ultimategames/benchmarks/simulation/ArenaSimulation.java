@@ -0,0 +1,316 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.simulation;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+import me.ampayne2.ultimategames.benchmarks.UltimateGamesFixture;
+import me.ampayne2.ultimategames.benchmarks.server.FakePlayer;
+import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.arenas.UQueueManager;
+import me.ampayne2.ultimategames.core.players.UPlayerManager;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.PluginManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Drives arenas of the benchmark game through whole matches on a simulated main thread and reports what each tick
+ * costs.<br>
+ * Every arena has two groups of players. One group plays while the other waits in the arena's queue. A match goes
+ * through the arena opening, the queued group joining, the starting countdown, the arena beginning, a scripted stream
+ * of move, damage and block events, and the arena ending. The group that played then queues again while the arena
+ * reopens for the waiting group.
+ * <p></p>
+ * Usage: {@code ArenaSimulation [--arenas 200] [--ticks 6000] [--warmup 1200] [--match 600] [--countdown 5]
+ * [--budget 50] [--seed 42]}<br>
+ * The process exits with status 1 if the 99th percentile tick takes longer than the budget in milliseconds, or if
+ * fewer than half of the matches that fit in the measured ticks were played, since a broken match lifecycle would
+ * otherwise make for a fast but meaningless run.
+ */
+public class ArenaSimulation {
+    private static final int DAMAGE_CHANCE = 10;
+    private static final int BREAK_CHANCE = 2;
+    private static final int PLACE_CHANCE = 2;
+    private static final int BORDER = 2;
+    private static final ItemStack PLACED_ITEM = new ItemStack(Material.WOOL);
+    private final UltimateGamesFixture fixture;
+    private final UPlayerManager playerManager;
+    private final UQueueManager queueManager;
+    private final PluginManager pluginManager;
+    private final Random random;
+    private final int matchTicks;
+    private final List<SimulatedArena> arenas = new ArrayList<>();
+    private final Map<String, FakePlayer> players = new HashMap<>();
+    private int tick;
+    private int matchesPlayed;
+    private long eventsCalled;
+
+    /**
+     * Creates a new ArenaSimulation and its arenas and players. The arenas are opened one after another over the first
+     * match length, so that matches don't all begin and end in the same tick.
+     *
+     * @param fixture           The fixture to simulate on.
+     * @param arenaAmount       The amount of arenas.
+     * @param matchTicks        How many ticks each match runs for before it is ended.
+     * @param countdownSeconds  The length of the starting countdown.
+     * @param seed              The seed of the scripted events.
+     */
+    public ArenaSimulation(UltimateGamesFixture fixture, int arenaAmount, int matchTicks, int countdownSeconds, long seed) {
+        this.fixture = fixture;
+        UG ultimateGames = fixture.getUltimateGames();
+        this.playerManager = ultimateGames.getPlayerManager();
+        this.queueManager = ultimateGames.getQueueManager();
+        this.pluginManager = fixture.getServer().getPluginManager().getPluginManager();
+        this.random = new Random(seed);
+        this.matchTicks = matchTicks;
+
+        fixture.getGamePlugin().setStartingCountdown(countdownSeconds);
+        List<String> whitelist = Arrays.asList(Material.WOOL.name());
+        ultimateGames.getConfigManager().getGameConfig(fixture.getGame()).set("BlockBreakWhitelist", whitelist);
+        ultimateGames.getConfigManager().getGameConfig(fixture.getGame()).set("BlockPlaceWhitelist", whitelist);
+        ultimateGames.getWhitelistManager().getBlockBreakWhitelist().reload();
+        ultimateGames.getWhitelistManager().getBlockPlaceWhitelist().reload();
+
+        List<Arena> created = fixture.createArenas(arenaAmount);
+        for (int i = 0; i < created.size(); i++) {
+            Arena arena = created.get(i);
+            ultimateGames.getArenaManager().stopArena(arena);
+            SimulatedArena simulatedArena = new SimulatedArena(arena, fixture.getCenter(arena), i * matchTicks / created.size());
+            for (int j = 0; j < arena.getMaxPlayers() * 2; j++) {
+                FakePlayer player = fixture.createPlayer();
+                players.put(player.getName(), player);
+                simulatedArena.players.add(player);
+                queueManager.addPlayerToQueue(player.getPlayer(), arena);
+            }
+            arenas.add(simulatedArena);
+        }
+    }
+
+    /**
+     * Runs one simulated tick: the scripted events of every arena, then the server's scheduled tasks.
+     */
+    public void tick() {
+        for (SimulatedArena simulatedArena : arenas) {
+            Arena arena = simulatedArena.arena;
+            if (tick == simulatedArena.openTick) {
+                fixture.getUltimateGames().getArenaManager().openArena(arena);
+            }
+            boolean running = arena.getStatus() == ArenaStatus.RUNNING;
+            List<String> arenaPlayers = arena.getPlayers();
+            for (String playerName : arenaPlayers) {
+                FakePlayer player = players.get(playerName);
+                move(simulatedArena, player);
+                if (running) {
+                    if (random.nextInt(100) < DAMAGE_CHANCE && arenaPlayers.size() > 1) {
+                        damage(player, players.get(arenaPlayers.get(random.nextInt(arenaPlayers.size()))));
+                    }
+                    if (random.nextInt(100) < BREAK_CHANCE) {
+                        breakBlock(player);
+                    }
+                    if (random.nextInt(100) < PLACE_CHANCE) {
+                        placeBlock(player);
+                    }
+                }
+            }
+            if (running && ++simulatedArena.runningTicks >= matchTicks) {
+                simulatedArena.runningTicks = 0;
+                fixture.getUltimateGames().getArenaManager().endArena(arena);
+                matchesPlayed++;
+                for (FakePlayer player : simulatedArena.players) {
+                    String playerName = player.getName();
+                    if (!playerManager.isPlayerInArena(playerName) && !queueManager.isPlayerInQueue(playerName)) {
+                        queueManager.addPlayerToQueue(player.getPlayer(), arena);
+                    }
+                }
+            }
+        }
+        fixture.tick();
+        tick++;
+    }
+
+    /**
+     * Moves a player up to a block in a random direction, staying inside of the arena.
+     *
+     * @param simulatedArena The arena of the player.
+     * @param player         The player.
+     */
+    private void move(SimulatedArena simulatedArena, FakePlayer player) {
+        Location from = player.getPlayer().getLocation();
+        Location to = from.clone();
+        to.setX(clamp(from.getX() + random.nextInt(3) - 1, simulatedArena.minX, simulatedArena.maxX));
+        to.setZ(clamp(from.getZ() + random.nextInt(3) - 1, simulatedArena.minZ, simulatedArena.maxZ));
+        PlayerMoveEvent event = new PlayerMoveEvent(player.getPlayer(), from, to);
+        callEvent(event);
+        if (!event.isCancelled()) {
+            player.setLocation(event.getTo());
+        }
+    }
+
+    private void damage(FakePlayer damager, FakePlayer player) {
+        if (damager != player) {
+            callEvent(new EntityDamageByEntityEvent(damager.getPlayer(), player.getPlayer(), EntityDamageEvent.DamageCause.ENTITY_ATTACK, 2D));
+        }
+    }
+
+    private void breakBlock(FakePlayer player) {
+        Block block = player.getPlayer().getLocation().getBlock().getRelative(randomFace());
+        block.setType(Material.WOOL);
+        BlockBreakEvent event = new BlockBreakEvent(block, player.getPlayer());
+        callEvent(event);
+        if (!event.isCancelled()) {
+            block.setType(Material.AIR);
+        }
+    }
+
+    private void placeBlock(FakePlayer player) {
+        Player bukkitPlayer = player.getPlayer();
+        Block block = bukkitPlayer.getLocation().getBlock().getRelative(randomFace());
+        block.setType(Material.WOOL);
+        BlockPlaceEvent event = new BlockPlaceEvent(block, block.getState(), block.getRelative(BlockFace.DOWN), PLACED_ITEM, bukkitPlayer, true);
+        callEvent(event);
+        if (event.isCancelled()) {
+            block.setType(Material.AIR);
+        }
+    }
+
+    private BlockFace randomFace() {
+        switch (random.nextInt(4)) {
+            case 0:
+                return BlockFace.NORTH;
+            case 1:
+                return BlockFace.EAST;
+            case 2:
+                return BlockFace.SOUTH;
+            default:
+                return BlockFace.WEST;
+        }
+    }
+
+    private void callEvent(Event event) {
+        pluginManager.callEvent(event);
+        eventsCalled++;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    public int getMatchesPlayed() {
+        return matchesPlayed;
+    }
+
+    public long getEventsCalled() {
+        return eventsCalled;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Integer> options = new HashMap<>();
+        options.put("arenas", 200);
+        options.put("ticks", 6000);
+        options.put("warmup", 1200);
+        options.put("match", 600);
+        options.put("countdown", 5);
+        options.put("budget", 50);
+        options.put("seed", 42);
+        for (int i = 0; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : args[i];
+            if (!options.containsKey(name) || i + 1 >= args.length) {
+                System.err.println("Usage: ArenaSimulation [--arenas 200] [--ticks 6000] [--warmup 1200] [--match 600] [--countdown 5] [--budget 50] [--seed 42]");
+                System.exit(2);
+            }
+            options.put(name, Integer.parseInt(args[i + 1]));
+        }
+
+        UltimateGamesFixture fixture = UltimateGamesFixture.get();
+        ArenaSimulation simulation = new ArenaSimulation(fixture, options.get("arenas"), options.get("match"), options.get("countdown"), options.get("seed"));
+        for (int i = 0; i < options.get("warmup"); i++) {
+            simulation.tick();
+        }
+        System.gc();
+
+        int matchesBefore = simulation.getMatchesPlayed();
+        long eventsBefore = simulation.getEventsCalled();
+        int ticks = options.get("ticks");
+        TickStatistics statistics = new TickStatistics(ticks);
+        for (int i = 0; i < ticks; i++) {
+            statistics.startTick();
+            simulation.tick();
+            statistics.endTick();
+        }
+
+        long budgetNanos = options.get("budget") * 1000000L;
+        System.out.println("Arenas:           " + options.get("arenas"));
+        System.out.println("Matches played:   " + (simulation.getMatchesPlayed() - matchesBefore));
+        System.out.println("Events called:    " + (simulation.getEventsCalled() - eventsBefore));
+        statistics.print(System.out, budgetNanos);
+        int matchesPlayed = simulation.getMatchesPlayed() - matchesBefore;
+        // A match takes at least its countdown and its running ticks
+        long matchesExpected = (long) options.get("arenas") * ticks / (options.get("match") + options.get("countdown") * 20);
+        boolean played = matchesPlayed > 0 && matchesPlayed >= matchesExpected / 2;
+        boolean fits = statistics.getPercentile(99) <= budgetNanos;
+        if (!played) {
+            System.out.println("FAIL: only " + matchesPlayed + " of about " + matchesExpected + " matches were played");
+        } else {
+            System.out.println(fits ? "PASS: the 99th percentile tick fits in the budget" : "FAIL: the 99th percentile tick is over the budget");
+        }
+        fixture.shutdown();
+        System.exit(played && fits ? 0 : 1);
+    }
+
+    /**
+     * An arena driven by the simulation and the players that play in it.
+     */
+    private static final class SimulatedArena {
+        private final Arena arena;
+        private final int openTick;
+        private final double minX;
+        private final double maxX;
+        private final double minZ;
+        private final double maxZ;
+        private final List<FakePlayer> players = new ArrayList<>();
+        private int runningTicks;
+
+        private SimulatedArena(Arena arena, Location center, int openTick) {
+            this.arena = arena;
+            this.openTick = openTick;
+            int halfSize = UltimateGamesFixture.ARENA_SIZE / 2;
+            this.minX = center.getX() - halfSize + BORDER;
+            this.maxX = center.getX() + halfSize - BORDER;
+            this.minZ = center.getZ() - halfSize + BORDER;
+            this.maxZ = center.getZ() + halfSize - BORDER;
+        }
+    }
+}
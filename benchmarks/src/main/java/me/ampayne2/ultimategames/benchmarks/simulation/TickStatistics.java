@@ -0,0 +1,164 @@
+/*
+ * This file is part of UltimateGames Benchmarks.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Benchmarks is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Benchmarks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Benchmarks.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.benchmarks.simulation;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records the main thread time and allocations of each simulated tick, and the peak heap usage over all recorded ticks.
+ */
+public class TickStatistics {
+    private final long[] tickNanos;
+    private final long[] tickAllocations;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final List<MemoryPoolMXBean> memoryPools = ManagementFactory.getMemoryPoolMXBeans();
+    private final long threadId = Thread.currentThread().getId();
+    private int ticks;
+    private long tickStart;
+    private long allocatedAtTickStart;
+
+    /**
+     * Creates a new TickStatistics. Must be created on the thread that runs the ticks.
+     *
+     * @param capacity The amount of ticks that will be recorded.
+     */
+    public TickStatistics(int capacity) {
+        tickNanos = new long[capacity];
+        tickAllocations = new long[capacity];
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threadBean = null;
+        }
+        for (MemoryPoolMXBean pool : memoryPools) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Marks the start of a tick.
+     */
+    public void startTick() {
+        allocatedAtTickStart = allocatedBytes();
+        tickStart = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the tick started last.
+     */
+    public void endTick() {
+        tickNanos[ticks] = System.nanoTime() - tickStart;
+        tickAllocations[ticks] = allocatedBytes() - allocatedAtTickStart;
+        ticks++;
+    }
+
+    private long allocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(threadId);
+    }
+
+    /**
+     * Gets the given percentile of the recorded tick times.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The tick time in nanoseconds.
+     */
+    public long getPercentile(double percentile) {
+        if (ticks == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(tickNanos, ticks);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * ticks) - 1;
+        return sorted[Math.max(0, Math.min(ticks - 1, index))];
+    }
+
+    /**
+     * Gets the amount of recorded ticks that took longer than a budget.
+     *
+     * @param budgetNanos The budget in nanoseconds.
+     * @return The amount of ticks.
+     */
+    public int getTicksOver(long budgetNanos) {
+        int over = 0;
+        for (int i = 0; i < ticks; i++) {
+            if (tickNanos[i] > budgetNanos) {
+                over++;
+            }
+        }
+        return over;
+    }
+
+    /**
+     * Gets the peak heap usage since the statistics were created.<br>
+     * This is the sum of the peaks of each heap pool, which can be reached at different times, so it is an upper bound.
+     *
+     * @return The peak heap usage in bytes.
+     */
+    public long getPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : memoryPools) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * Prints a summary of the recorded ticks.
+     *
+     * @param out         The stream to print to.
+     * @param budgetNanos The tick budget in nanoseconds.
+     */
+    public void print(PrintStream out, long budgetNanos) {
+        long totalNanos = 0;
+        long maxNanos = 0;
+        long totalAllocations = 0;
+        long maxAllocations = 0;
+        for (int i = 0; i < ticks; i++) {
+            totalNanos += tickNanos[i];
+            maxNanos = Math.max(maxNanos, tickNanos[i]);
+            totalAllocations += tickAllocations[i];
+            maxAllocations = Math.max(maxAllocations, tickAllocations[i]);
+        }
+        out.println("Ticks:            " + ticks);
+        out.println(String.format("Tick time (ms):   mean %.3f  p50 %.3f  p95 %.3f  p99 %.3f  max %.3f", millis(totalNanos / Math.max(1, ticks)),
+                millis(getPercentile(50)), millis(getPercentile(95)), millis(getPercentile(99)), millis(maxNanos)));
+        out.println(String.format("Over budget:      %d ticks over %.1f ms", getTicksOver(budgetNanos), millis(budgetNanos)));
+        if (threadBean == null) {
+            out.println("Allocations:      not supported by this JVM");
+        } else {
+            out.println(String.format("Allocations (KB): mean %.1f  max %.1f per tick", totalAllocations / Math.max(1, ticks) / 1024D, maxAllocations / 1024D));
+        }
+        out.println(String.format("Peak heap (MB):   %.1f", getPeakHeap() / 1048576D));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1000000D;
+    }
+}
@@ -27,7 +27,6 @@ import me.ampayne2.ultimategames.api.players.teams.Team;
 import me.ampayne2.ultimategames.api.rollback.RollbackManager;
 import me.ampayne2.ultimategames.api.signs.Sign;
 import me.ampayne2.ultimategames.api.signs.SignType;
-import me.ampayne2.ultimategames.api.webapi.GeneralInformationHandler;
 import me.ampayne2.ultimategames.api.webapi.WebHandler;
 import me.ampayne2.ultimategames.core.arenas.ArenaListener;
 import me.ampayne2.ultimategames.core.arenas.UArenaManager;
@@ -50,21 +49,27 @@ import me.ampayne2.ultimategames.core.players.UPlayerManager;
 import me.ampayne2.ultimategames.core.players.classes.UGameClassManager;
 import me.ampayne2.ultimategames.core.players.points.PermissionsPointManager;
 import me.ampayne2.ultimategames.core.players.teams.UTeamManager;
+import me.ampayne2.ultimategames.core.players.trackers.UTrackerManager;
 import me.ampayne2.ultimategames.core.rollback.LogBlockRollback;
 import me.ampayne2.ultimategames.core.signs.RedstoneOutputSign;
 import me.ampayne2.ultimategames.core.signs.SignListener;
 import me.ampayne2.ultimategames.core.signs.USignManager;
+import me.ampayne2.ultimategames.core.webapi.ArenaEventStream;
+import me.ampayne2.ultimategames.core.webapi.ArenaStatePublisher;
+import me.ampayne2.ultimategames.core.webapi.ArenaStateRoutes;
 import me.ampayne2.ultimategames.core.webapi.JettyServer;
+import me.ampayne2.ultimategames.core.webapi.MetricsEndpoint;
 import me.ampayne2.ultimategames.core.whitelist.UWhitelistManager;
 import org.bukkit.Bukkit;
 import org.bukkit.Server;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginLoader;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.File;
 import java.util.logging.Level;
 
 /**
@@ -78,6 +83,7 @@ public class UG extends JavaPlugin implements UltimateGames {
     private UGameBlockManager gameBlockManager;
     private UGameManager gameManager;
     private UTeamManager teamManager;
+    private UTrackerManager trackerManager;
     private UArenaManager arenaManager;
     private USignManager signManager;
     private UChestManager chestManager;
@@ -95,6 +101,27 @@ public class UG extends JavaPlugin implements UltimateGames {
     private CommandController commandController;
     private RollbackManager rollbackManager;
     private JettyServer jettyServer;
+    private ArenaStatePublisher arenaStatePublisher;
+    private ArenaEventStream arenaEventStream;
+    private long currentTick;
+
+    public UG() {
+        super();
+    }
+
+    /**
+     * Creates UltimateGames outside of a server's plugin loader, for example for the benchmarks.
+     *
+     * @param loader      The {@link org.bukkit.plugin.PluginLoader}.
+     * @param server      The {@link org.bukkit.Server}.
+     * @param description The plugin's {@link org.bukkit.plugin.PluginDescriptionFile}.
+     * @param dataFolder  The plugin's data folder.
+     * @param file        The plugin's jar file.
+     */
+    @SuppressWarnings("deprecation")
+    protected UG(PluginLoader loader, Server server, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, server, description, dataFolder, file);
+    }
 
     public void onEnable() {
         instance = this;
@@ -102,6 +129,13 @@ public class UG extends JavaPlugin implements UltimateGames {
         getConfig().options().copyDefaults(true);
         saveConfig();
 
+        getServer().getScheduler().runTaskTimer(this, new Runnable() {
+            @Override
+            public void run() {
+                currentTick++;
+            }
+        }, 1, 1);
+
         configManager = new UConfigManager(this);
         messenger = new UMessenger(this);
         messenger.registerRecipient(CommandSender.class, new RecipientHandler() {
@@ -123,10 +157,13 @@ public class UG extends JavaPlugin implements UltimateGames {
             @Override
             public void sendMessage(Object recipient, String message) {
                 Arena arena = (Arena) recipient;
-                List<String> players = new ArrayList<>();
-                players.addAll(arena.getPlayers());
-                players.addAll(arena.getSpectators());
-                for (String playerName : players) {
+                for (String playerName : arena.getPlayers()) {
+                    Player player = Bukkit.getPlayerExact(playerName);
+                    if (player != null) {
+                        player.sendMessage(message);
+                    }
+                }
+                for (String playerName : arena.getSpectators()) {
                     Player player = Bukkit.getPlayerExact(playerName);
                     if (player != null) {
                         player.sendMessage(message);
@@ -139,6 +176,8 @@ public class UG extends JavaPlugin implements UltimateGames {
                 ((Server) recipient).broadcastMessage(message);
             }
         });
+        arenaStatePublisher = new ArenaStatePublisher(this, getConfig().getBoolean("enableAPI"));
+        arenaEventStream = new ArenaEventStream(this, getConfig().getBoolean("enableAPI"));
         playerManager = new UPlayerManager(this);
         metricsManager = new MetricsManager(this);
         gameClassManager = new UGameClassManager(this);
@@ -150,6 +189,7 @@ public class UG extends JavaPlugin implements UltimateGames {
         zoneManager = new UZoneManager(this);
         scoreboardManager = new UScoreboardManager();
         teamManager = new UTeamManager(this);
+        trackerManager = new UTrackerManager(this);
         arenaManager = new UArenaManager(this);
         metricsManager.addTotalPlayersGraph();
         if (getConfig().getBoolean("enableAPI")) {
@@ -161,7 +201,13 @@ public class UG extends JavaPlugin implements UltimateGames {
                 getLogger().info("Failed to enable live stats API link");
                 messenger.debug(e);
             }
-            jettyServer.getHandler().addHandler("/general", new GeneralInformationHandler(this));
+            jettyServer.getHandler().addEndpoint("/general", arenaStatePublisher);
+            jettyServer.getHandler().addEndpoint("/events", arenaEventStream);
+            ArenaStateRoutes routes = new ArenaStateRoutes(arenaStatePublisher);
+            jettyServer.getHandler().addRoute("/games", routes);
+            jettyServer.getHandler().addRoute("/arenas", routes);
+            jettyServer.getHandler().addRoute("/players", routes);
+            jettyServer.getHandler().addEndpoint("/metrics", new MetricsEndpoint(metricsManager.getRegistry()));
         }
         signManager = new USignManager(this);
         chestManager = new UChestManager(this);
@@ -190,6 +236,9 @@ public class UG extends JavaPlugin implements UltimateGames {
                 ((RedstoneOutputSign) sign).setPowered(false);
             }
         }
+        if (arenaEventStream != null) {
+            arenaEventStream.shutdown();
+        }
         if (jettyServer != null) {
             try {
                 jettyServer.stopServer();
@@ -197,6 +246,15 @@ public class UG extends JavaPlugin implements UltimateGames {
                 getLogger().log(Level.SEVERE, "An error occured in unloading the Web API", e);
             }
         }
+        if (playerManager != null) {
+            playerManager.closeLimboJournal();
+        }
+        if (configManager != null) {
+            configManager.flush();
+            if (arenaManager != null) {
+                arenaManager.getRegistryCache().save();
+            }
+        }
         instance = null;
     }
 
@@ -214,6 +272,11 @@ public class UG extends JavaPlugin implements UltimateGames {
         return configManager;
     }
 
+    @Override
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
     @Override
     public UMessenger getMessenger() {
         return messenger;
@@ -229,6 +292,24 @@ public class UG extends JavaPlugin implements UltimateGames {
         return arenaManager;
     }
 
+    /**
+     * Gets the {@link me.ampayne2.ultimategames.core.webapi.ArenaStatePublisher} of UltimateGames.
+     *
+     * @return The {@link me.ampayne2.ultimategames.core.webapi.ArenaStatePublisher}.
+     */
+    public ArenaStatePublisher getArenaStatePublisher() {
+        return arenaStatePublisher;
+    }
+
+    /**
+     * Gets the {@link me.ampayne2.ultimategames.core.webapi.ArenaEventStream} of UltimateGames.
+     *
+     * @return The {@link me.ampayne2.ultimategames.core.webapi.ArenaEventStream}.
+     */
+    public ArenaEventStream getArenaEventStream() {
+        return arenaEventStream;
+    }
+
     @Override
     public UPlayerManager getPlayerManager() {
         return playerManager;
@@ -264,6 +345,11 @@ public class UG extends JavaPlugin implements UltimateGames {
         return teamManager;
     }
 
+    @Override
+    public UTrackerManager getTrackerManager() {
+        return trackerManager;
+    }
+
     @Override
     public UQueueManager getQueueManager() {
         return queueManager;
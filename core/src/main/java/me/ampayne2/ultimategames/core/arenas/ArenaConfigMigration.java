@@ -0,0 +1,175 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.arenas;
+
+import me.ampayne2.ultimategames.api.config.ConfigType;
+import me.ampayne2.ultimategames.api.signs.SignType;
+import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.config.UArenaConfigAccessor;
+import me.ampayne2.ultimategames.core.config.UConfigAccessor;
+import me.ampayne2.ultimategames.core.signs.StoredSign;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Moves the arenas stored in Arenas.yml and their signs stored in Signs.yml into one config per arena.<br>
+ * The old configs are backed up before they are changed, and are only changed once every arena config is written.
+ */
+final class ArenaConfigMigration {
+    private static final String ARENAS_PATH = "Arenas";
+    private static final String BACKUP_EXTENSION = ".bak";
+    private static final String EMPTY_CONFIG = "{}";
+    private static final int EMPTY_CONFIG_MAX_LENGTH = 16;
+
+    private ArenaConfigMigration() {
+    }
+
+    /**
+     * Migrates the arenas and signs if Arenas.yml or Signs.yml still contain any.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     */
+    static void migrate(UG ultimateGames) {
+        UConfigAccessor arenaAccessor = (UConfigAccessor) ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA);
+        UConfigAccessor signAccessor = (UConfigAccessor) ultimateGames.getConfigManager().getConfigAccessor(ConfigType.SIGN);
+        // Once migrated both configs are left empty, so there's no need to parse them on every start
+        if (isEmpty(arenaAccessor.getFile()) && isEmpty(signAccessor.getFile())) {
+            return;
+        }
+        FileConfiguration arenaConfig = arenaAccessor.getConfig();
+        FileConfiguration signConfig = signAccessor.getConfig();
+        ConfigurationSection arenasSection = arenaConfig.getConfigurationSection(ARENAS_PATH);
+        boolean hasSigns = false;
+        for (SignType signType : SignType.values()) {
+            hasSigns |= signConfig.isConfigurationSection(signType.name());
+        }
+        if (arenasSection == null && !hasSigns) {
+            return;
+        }
+
+        Map<String, UArenaConfigAccessor> arenaConfigs = new LinkedHashMap<>();
+        try {
+            backup(arenaAccessor.getFile());
+            backup(signAccessor.getFile());
+
+            if (arenasSection != null) {
+                for (String gameKey : arenasSection.getKeys(false)) {
+                    ConfigurationSection gameSection = arenasSection.getConfigurationSection(gameKey);
+                    if (gameSection != null) {
+                        for (String arenaKey : gameSection.getKeys(false)) {
+                            UArenaConfigAccessor configAccessor = ultimateGames.getConfigManager().getArenaConfigAccessor(gameKey, arenaKey);
+                            copy(gameSection.getConfigurationSection(arenaKey), configAccessor.getConfig());
+                            arenaConfigs.put(gameKey + "." + arenaKey, configAccessor);
+                        }
+                    }
+                }
+            }
+            for (SignType signType : SignType.values()) {
+                ConfigurationSection typeSection = signConfig.getConfigurationSection(signType.name());
+                if (typeSection != null) {
+                    for (String gameKey : typeSection.getKeys(false)) {
+                        ConfigurationSection gameSection = typeSection.getConfigurationSection(gameKey);
+                        if (gameSection != null) {
+                            for (String arenaKey : gameSection.getKeys(false)) {
+                                // Signs of arenas that no longer exist were never loaded, so they're dropped
+                                UArenaConfigAccessor configAccessor = arenaConfigs.get(gameKey + "." + arenaKey);
+                                if (configAccessor != null) {
+                                    configAccessor.getConfig().set(StoredSign.SIGNS_PATH + "." + signType.name(), gameSection.getList(arenaKey));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            for (UArenaConfigAccessor configAccessor : arenaConfigs.values()) {
+                configAccessor.getConfig().save(configAccessor.getFile());
+            }
+            arenaConfig.set(ARENAS_PATH, null);
+            arenaConfig.save(arenaAccessor.getFile());
+            for (SignType signType : SignType.values()) {
+                signConfig.set(signType.name(), null);
+            }
+            signConfig.save(signAccessor.getFile());
+        } catch (IOException e) {
+            ultimateGames.getMessenger().log(Level.SEVERE, "Could not move the arenas out of " + arenaAccessor.getFile().getName() + ", the move is retried on the next start");
+            ultimateGames.getMessenger().debug(e);
+            return;
+        }
+        ultimateGames.getMessenger().log(Level.INFO, "Moved " + arenaConfigs.size() + " arenas into " + UArenaConfigAccessor.ARENA_FOLDER + File.separator + ", the old configs were backed up to "
+                + arenaAccessor.getFile().getName() + BACKUP_EXTENSION + " and " + signAccessor.getFile().getName() + BACKUP_EXTENSION);
+    }
+
+    /**
+     * Checks if a config file is missing or holds no values, without parsing it.
+     *
+     * @param file The config file.
+     * @return True if the config file is missing or empty, else false.
+     */
+    private static boolean isEmpty(File file) {
+        if (!file.isFile() || file.length() == 0) {
+            return true;
+        } else if (file.length() > EMPTY_CONFIG_MAX_LENGTH) {
+            return false;
+        }
+        try {
+            String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+            return content.isEmpty() || content.equals(EMPTY_CONFIG);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Copies a config file next to itself before it is migrated.
+     *
+     * @param file The config file.
+     * @throws IOException If the file can't be copied.
+     */
+    private static void backup(File file) throws IOException {
+        if (file.exists()) {
+            Files.copy(file.toPath(), new File(file.getParentFile(), file.getName() + BACKUP_EXTENSION).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Copies every value of a ConfigurationSection into another ConfigurationSection.
+     *
+     * @param from The ConfigurationSection to copy from.
+     * @param to   The ConfigurationSection to copy to.
+     */
+    private static void copy(ConfigurationSection from, ConfigurationSection to) {
+        for (String key : from.getKeys(false)) {
+            if (from.isConfigurationSection(key)) {
+                copy(from.getConfigurationSection(key), to.createSection(key));
+            } else {
+                to.set(key, from.get(key));
+            }
+        }
+    }
+}
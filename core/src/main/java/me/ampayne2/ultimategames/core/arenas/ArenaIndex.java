@@ -0,0 +1,157 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.arenas;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.arenas.Region;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A spatial index of arenas keyed by world and chunk coordinate.<br>
+ * Chunks that no arena touches have no entry, so lookups outside of arenas return after a single probe.
+ */
+public class ArenaIndex {
+    private final Map<World, Map<Long, Arena[]>> chunks = new HashMap<>();
+    private final Map<Arena, Region> indexedRegions = new HashMap<>();
+    private static final Arena[] EMPTY = new Arena[0];
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * Adds an arena to the index, replacing any region it was previously indexed with.
+     *
+     * @param arena The arena.
+     */
+    public void add(Arena arena) {
+        remove(arena);
+        Region region = arena.getRegion();
+        if (region == null || region.getWorld() == null) {
+            return;
+        }
+        Map<Long, Arena[]> worldChunks = chunks.get(region.getWorld());
+        if (worldChunks == null) {
+            worldChunks = new HashMap<>();
+            chunks.put(region.getWorld(), worldChunks);
+        }
+        int minChunkX = toChunk(region.getMinX());
+        int maxChunkX = toChunk(region.getMaxX());
+        int minChunkZ = toChunk(region.getMinZ());
+        int maxChunkZ = toChunk(region.getMaxZ());
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                long key = toKey(chunkX, chunkZ);
+                Arena[] chunkArenas = worldChunks.get(key);
+                if (chunkArenas == null) {
+                    chunkArenas = EMPTY;
+                }
+                Arena[] newChunkArenas = Arrays.copyOf(chunkArenas, chunkArenas.length + 1);
+                newChunkArenas[chunkArenas.length] = arena;
+                worldChunks.put(key, newChunkArenas);
+            }
+        }
+        indexedRegions.put(arena, region);
+    }
+
+    /**
+     * Removes an arena from the index.
+     *
+     * @param arena The arena.
+     */
+    public void remove(Arena arena) {
+        Region region = indexedRegions.remove(arena);
+        if (region == null) {
+            return;
+        }
+        Map<Long, Arena[]> worldChunks = chunks.get(region.getWorld());
+        if (worldChunks == null) {
+            return;
+        }
+        int minChunkX = toChunk(region.getMinX());
+        int maxChunkX = toChunk(region.getMaxX());
+        int minChunkZ = toChunk(region.getMinZ());
+        int maxChunkZ = toChunk(region.getMaxZ());
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                long key = toKey(chunkX, chunkZ);
+                Arena[] chunkArenas = worldChunks.get(key);
+                if (chunkArenas == null) {
+                    continue;
+                }
+                Arena[] newChunkArenas = new Arena[chunkArenas.length - 1];
+                int index = 0;
+                for (Arena chunkArena : chunkArenas) {
+                    if (chunkArena != arena && index < newChunkArenas.length) {
+                        newChunkArenas[index++] = chunkArena;
+                    }
+                }
+                if (index == 0) {
+                    worldChunks.remove(key);
+                } else {
+                    worldChunks.put(key, index == newChunkArenas.length ? newChunkArenas : Arrays.copyOf(newChunkArenas, index));
+                }
+            }
+        }
+        if (worldChunks.isEmpty()) {
+            chunks.remove(region.getWorld());
+        }
+    }
+
+    /**
+     * Gets the arena a location is in.
+     *
+     * @param location The location.
+     * @return The arena, or null if the location isn't in an arena.
+     */
+    public Arena get(Location location) {
+        Map<Long, Arena[]> worldChunks = chunks.get(location.getWorld());
+        if (worldChunks == null) {
+            return null;
+        }
+        Arena[] chunkArenas = worldChunks.get(toKey(location.getBlockX() >> CHUNK_SHIFT, location.getBlockZ() >> CHUNK_SHIFT));
+        if (chunkArenas == null) {
+            return null;
+        }
+        for (Arena arena : chunkArenas) {
+            if (arena.locationIsInArena(location)) {
+                return arena;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Clears the index.
+     */
+    public void clear() {
+        chunks.clear();
+        indexedRegions.clear();
+    }
+
+    private static int toChunk(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> CHUNK_SHIFT;
+    }
+
+    private static long toKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
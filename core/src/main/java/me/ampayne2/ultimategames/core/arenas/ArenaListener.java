@@ -20,16 +20,22 @@ package me.ampayne2.ultimategames.core.arenas;
 
 import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+import me.ampayne2.ultimategames.api.arenas.spawnpoints.PlayerSpawnPoint;
 import me.ampayne2.ultimategames.api.games.Game;
+import me.ampayne2.ultimategames.api.games.blocks.GameBlock;
 import me.ampayne2.ultimategames.api.games.blocks.GameBlockManager;
 import me.ampayne2.ultimategames.api.games.items.GameItem;
 import me.ampayne2.ultimategames.api.message.UGMessage;
+import me.ampayne2.ultimategames.api.players.ArenaPlayer;
+import me.ampayne2.ultimategames.api.players.ArenaSpectator;
 import me.ampayne2.ultimategames.api.players.PlayerManager;
 import me.ampayne2.ultimategames.api.players.teams.Team;
 import me.ampayne2.ultimategames.api.players.teams.TeamManager;
 import me.ampayne2.ultimategames.api.utils.UGUtils;
 import me.ampayne2.ultimategames.api.whitelist.Whitelist;
 import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.message.ChatRouter;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
@@ -48,7 +54,7 @@ import org.bukkit.event.player.*;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.projectiles.ProjectileSource;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 
 /**
  * Handles all arena events.
@@ -81,9 +87,10 @@ public class ArenaListener implements Listener {
                 if (!ultimateGames.getPlayerManager().getArenaPlayer(playerName).isEditing()) {
                     Material material = event.getBlock().getType();
                     if (arena.getStatus() == ArenaStatus.RUNNING && ultimateGames.getWhitelistManager().getBlockPlaceWhitelist().isWhitelisted(arena.getGame(), material)) {
-                        if (!ultimateGames.getGameBlockManager().isRegistered(game, material)) {
+                        GameBlock gameBlock = ultimateGames.getGameBlockManager().getGameBlock(game, material);
+                        if (gameBlock == null) {
                             arena.getGame().getGamePlugin().onBlockPlace(arena, event);
-                        } else if (!ultimateGames.getGameBlockManager().getGameBlock(game, material).place(arena, event)) {
+                        } else if (!gameBlock.place(arena, event)) {
                             event.setCancelled(true);
                         }
                     } else {
@@ -125,9 +132,10 @@ public class ArenaListener implements Listener {
                             }
                         }
                         Game game = arena.getGame();
-                        if (!ultimateGames.getGameBlockManager().isRegistered(game, material)) {
+                        GameBlock gameBlock = ultimateGames.getGameBlockManager().getGameBlock(game, material);
+                        if (gameBlock == null) {
                             arena.getGame().getGamePlugin().onBlockBreak(arena, event);
-                        } else if (!ultimateGames.getGameBlockManager().getGameBlock(game, material).canBeBroken()) {
+                        } else if (!gameBlock.canBeBroken()) {
                             event.setCancelled(true);
                         }
                     } else {
@@ -158,10 +166,16 @@ public class ArenaListener implements Listener {
                     GameBlockManager gameBlockManager = ultimateGames.getGameBlockManager();
                     if (arena.allowExplosionBlockBreaking()) {
                         Whitelist<Material> blockBreakWhitelist = ultimateGames.getWhitelistManager().getBlockBreakWhitelist();
-                        for (Block block : new ArrayList<>(event.blockList())) {
-                            Material material = block.getType();
-                            if (blockBreakWhitelist.isBlacklisted(arena.getGame(), material) || (gameBlockManager.isRegistered(game, material) && !gameBlockManager.getGameBlock(game, material).canBeBroken())) {
-                                event.blockList().remove(block);
+                        Iterator<Block> blocks = event.blockList().iterator();
+                        while (blocks.hasNext()) {
+                            Material material = blocks.next().getType();
+                            if (blockBreakWhitelist.isBlacklisted(game, material)) {
+                                blocks.remove();
+                            } else {
+                                GameBlock gameBlock = gameBlockManager.getGameBlock(game, material);
+                                if (gameBlock != null && !gameBlock.canBeBroken()) {
+                                    blocks.remove();
+                                }
                             }
                         }
                         arena.getGame().getGamePlugin().onEntityExplode(arena, event);
@@ -359,8 +373,8 @@ public class ArenaListener implements Listener {
             Arena arena = ultimateGames.getPlayerManager().getPlayerArena(playerName);
             Game game = arena.getGame();
             ItemStack item = player.getItemInHand();
-            if (item != null && ultimateGames.getGameItemManager().isRegistered(game, item)) {
-                GameItem gameItem = ultimateGames.getGameItemManager().getGameItem(game, item);
+            GameItem gameItem = item == null ? null : ultimateGames.getGameItemManager().getGameItem(game, item);
+            if (gameItem != null) {
                 event.setCancelled(true);
                 if (gameItem.click(arena, event) && gameItem.hasSingleUse()) {
                     ItemStack itemStack = player.getItemInHand();
@@ -391,8 +405,8 @@ public class ArenaListener implements Listener {
             Arena arena = ultimateGames.getPlayerManager().getPlayerArena(playerName);
             Game game = arena.getGame();
             ItemStack item = player.getItemInHand();
-            if (item != null && ultimateGames.getGameItemManager().isRegistered(game, item)) {
-                GameItem gameItem = ultimateGames.getGameItemManager().getGameItem(game, item);
+            GameItem gameItem = item == null ? null : ultimateGames.getGameItemManager().getGameItem(game, item);
+            if (gameItem != null) {
                 event.setCancelled(true);
                 if (gameItem.click(arena, event) && gameItem.hasSingleUse()) {
                     ItemStack itemStack = player.getItemInHand();
@@ -518,8 +532,59 @@ public class ArenaListener implements Listener {
         }
     }
 
+    /**
+     * Keeps players in their locked spawnpoints and inside their arena's region,<br>
+     * or the arena's lobby region if it has one and the arena isn't running.<br>
+     * The moving player's arena is resolved once instead of every arena and spawnpoint listening for every move.
+     * @param event The {@link org.bukkit.event.player.PlayerMoveEvent} event.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (from.getBlockX() == to.getBlockX() && from.getBlockZ() == to.getBlockZ()) {
+            return;
+        }
+        String playerName = event.getPlayer().getName();
+        ArenaPlayer arenaPlayer = ultimateGames.getPlayerManager().getArenaPlayer(playerName);
+        Arena arena;
+        if (arenaPlayer != null) {
+            arena = arenaPlayer.getArena();
+        } else {
+            ArenaSpectator arenaSpectator = ultimateGames.getPlayerManager().getArenaSpectator(playerName);
+            if (arenaSpectator == null) {
+                return;
+            }
+            arena = arenaSpectator.getArena();
+        }
+        PlayerSpawnPoint spawnPoint = ultimateGames.getSpawnpointManager().getLockedSpawnPoint(arena, playerName);
+        if (spawnPoint != null) {
+            spawnPoint.handlePlayerMove(event);
+        }
+        if (arenaPlayer != null) {
+            ((UArena) arena).handlePlayerMove(event);
+        }
+    }
+
+    /**
+     * Stops players and spectators from teleporting out of their arena.
+     * @param event The {@link org.bukkit.event.player.PlayerTeleportEvent} event.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        Arena arena = ultimateGames.getPlayerManager().getPlayerArena(event.getPlayer().getName());
+        if (arena != null) {
+            ((UArena) arena).handlePlayerTeleport(event);
+        }
+    }
+
     @EventHandler
     public void onPlayerChat(AsyncPlayerChatEvent event) {
+        ChatRouter chatRouter = ultimateGames.getMessenger().getChatRouter();
+        if (chatRouter.isEnabled()) {
+            chatRouter.route(event);
+            return;
+        }
         String playerName = event.getPlayer().getName();
         String message = event.getMessage();
         if (ultimateGames.getMessenger().sendPlayerChatMessage(playerName, message)) {
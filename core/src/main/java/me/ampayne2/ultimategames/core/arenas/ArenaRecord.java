@@ -0,0 +1,361 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.arenas;
+
+import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+import me.ampayne2.ultimategames.api.arenas.zones.RadiusType;
+import me.ampayne2.ultimategames.api.config.ConfigAccessor;
+import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.config.UArenaConfigAccessor;
+import me.ampayne2.ultimategames.core.signs.StoredSign;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The stored settings of an arena, its spawn points, its zones and its signs, as read from the arena's config or the
+ * {@link me.ampayne2.ultimategames.core.arenas.ArenaRegistryCache}.
+ */
+final class ArenaRecord {
+    private final String gameName;
+    private final String arenaName;
+    private final ArenaStatus status;
+    private final int minPlayers;
+    private final int maxPlayers;
+    private final URegion region;
+    private final URegion lobbyRegion;
+    private final Location lobbySpawnPoint;
+    private final boolean allowExplosionDamage;
+    private final boolean allowExplosionBlockBreaking;
+    private final boolean allowMobSpawning;
+    private final List<SpawnPointRecord> spawnPoints;
+    private final Location spectatorSpawnPoint;
+    private final List<ZoneRecord> zones;
+    private final List<StoredSign> signs;
+    private static final int X_INDEX = 0;
+    private static final int Y_INDEX = 1;
+    private static final int Z_INDEX = 2;
+    private static final int PITCH_INDEX = 3;
+    private static final int YAW_INDEX = 4;
+    private static final int LOCKED_INDEX = 5;
+
+    ArenaRecord(String gameName, String arenaName, ArenaStatus status, int minPlayers, int maxPlayers, URegion region, URegion lobbyRegion, Location lobbySpawnPoint,
+                boolean allowExplosionDamage, boolean allowExplosionBlockBreaking, boolean allowMobSpawning, List<SpawnPointRecord> spawnPoints, Location spectatorSpawnPoint,
+                List<ZoneRecord> zones, List<StoredSign> signs) {
+        this.gameName = gameName;
+        this.arenaName = arenaName;
+        this.status = status;
+        this.minPlayers = minPlayers;
+        this.maxPlayers = maxPlayers;
+        this.region = region;
+        this.lobbyRegion = lobbyRegion;
+        this.lobbySpawnPoint = lobbySpawnPoint;
+        this.allowExplosionDamage = allowExplosionDamage;
+        this.allowExplosionBlockBreaking = allowExplosionBlockBreaking;
+        this.allowMobSpawning = allowMobSpawning;
+        this.spawnPoints = Collections.unmodifiableList(spawnPoints);
+        this.spectatorSpawnPoint = spectatorSpawnPoint;
+        this.zones = Collections.unmodifiableList(zones);
+        this.signs = Collections.unmodifiableList(signs);
+    }
+
+    /**
+     * Reads the records of every arena stored in the arena configs.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @return The records.
+     */
+    static List<ArenaRecord> fromConfigs(UG ultimateGames) {
+        List<ArenaRecord> records = new ArrayList<>();
+        for (File arenaFile : getArenaFiles(ultimateGames)) {
+            records.add(fromConfig(getConfigAccessor(ultimateGames, arenaFile)));
+        }
+        return records;
+    }
+
+    /**
+     * Reads the record of an arena from its config.
+     *
+     * @param configAccessor The ConfigAccessor of the arena's config.
+     * @return The record.
+     */
+    static ArenaRecord fromConfig(UArenaConfigAccessor configAccessor) {
+        return fromSection(configAccessor.getGameName(), configAccessor.getArenaName(), configAccessor.getConfig(), configAccessor);
+    }
+
+    /**
+     * Gets the config files of every stored arena, sorted by game and arena name.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @return The arena config files.
+     */
+    static List<File> getArenaFiles(UG ultimateGames) {
+        List<File> arenaFiles = new ArrayList<>();
+        File[] gameFolders = new File(ultimateGames.getDataFolder(), UArenaConfigAccessor.ARENA_FOLDER).listFiles(new FileFilter() {
+            @Override
+            public boolean accept(File file) {
+                return file.isDirectory();
+            }
+        });
+        if (gameFolders != null) {
+            Arrays.sort(gameFolders);
+            for (File gameFolder : gameFolders) {
+                File[] files = gameFolder.listFiles(new FileFilter() {
+                    @Override
+                    public boolean accept(File file) {
+                        return file.isFile() && file.getName().endsWith(UArenaConfigAccessor.EXTENSION);
+                    }
+                });
+                if (files != null) {
+                    Arrays.sort(files);
+                    arenaFiles.addAll(Arrays.asList(files));
+                }
+            }
+        }
+        return arenaFiles;
+    }
+
+    /**
+     * Gets the ConfigAccessor of an arena config file.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param arenaFile     The arena config file.
+     * @return The ConfigAccessor.
+     */
+    static UArenaConfigAccessor getConfigAccessor(UG ultimateGames, File arenaFile) {
+        String fileName = arenaFile.getName();
+        String arenaName = fileName.substring(0, fileName.length() - UArenaConfigAccessor.EXTENSION.length());
+        return ultimateGames.getConfigManager().getArenaConfigAccessor(arenaFile.getParentFile().getName(), arenaName);
+    }
+
+    /**
+     * Reads the record of an arena from its ConfigurationSection, migrating old keys.
+     *
+     * @param gameName       The name of the arena's game.
+     * @param arenaName      The name of the arena.
+     * @param section        The ConfigurationSection.
+     * @param configAccessor The ConfigAccessor used to save migrated keys.
+     * @return The record.
+     */
+    static ArenaRecord fromSection(String gameName, String arenaName, ConfigurationSection section, ConfigAccessor configAccessor) {
+        ArenaStatus status = ArenaStatus.valueOf(section.getString("Status", "ARENA_STOPPED"));
+        int maxPlayers = section.getInt("Max-Players", UArena.DEFAULT_MAX_PLAYERS);
+        int minPlayers = section.getInt("Min-Players", UArena.DEFAULT_MIN_PLAYERS);
+        URegion region;
+        URegion lobbyRegion = null;
+        Location lobbySpawnPoint = null;
+        if (section.contains("Arena-Region")) {
+            region = URegion.fromList(section.getStringList("Arena-Region"));
+            section.set("Arena-Region", null);
+            section.set("Region", region.toList());
+
+            configAccessor.saveConfig();
+        } else {
+            region = URegion.fromList(section.getStringList("Region"));
+            if (section.contains("LobbyRegion")) {
+                lobbyRegion = URegion.fromList(section.getStringList("LobbyRegion"));
+                lobbySpawnPoint = (Location) section.get("LobbySpawnPoint");
+            }
+        }
+
+        boolean allowExplosionDamage;
+        boolean allowExplosionBlockBreaking;
+        boolean allowMobSpawning;
+        if (section.contains("Allow")) {
+            ConfigurationSection allow = section.getConfigurationSection("Allow");
+            allowExplosionDamage = allow.getBoolean("Explosion-Damage", false);
+            allowExplosionBlockBreaking = allow.getBoolean("Explosion-Block-Breaking", false);
+            allowMobSpawning = allow.getBoolean("Mob-Spawning", false);
+        } else {
+            allowExplosionDamage = section.getBoolean("Allow-Explosion-Damage", false);
+            allowExplosionBlockBreaking = section.getBoolean("Allow-Explosion-Block-Breaking", false);
+            allowMobSpawning = section.getBoolean("Allow-Mob-Spawning", false);
+            section.set("Allow-Explosion-Damage", null);
+            section.set("Allow-Explosion-Block-Breaking", null);
+            section.set("Allow-Mob-Spawning", null);
+            ConfigurationSection allow = section.createSection("Allow");
+            allow.set("Explosion-Damage", allowExplosionDamage);
+            allow.set("Explosion-Block-Breaking", allowExplosionBlockBreaking);
+            allow.set("Mob-Spawning", allowMobSpawning);
+
+            configAccessor.saveConfig();
+        }
+
+        World world = region == null ? null : region.getWorld();
+        List<SpawnPointRecord> spawnPoints = new ArrayList<>();
+        if (section.contains("SpawnPoints")) {
+            for (Object spawnPoint : section.getList("SpawnPoints")) {
+                @SuppressWarnings("unchecked") List<String> values = (List<String>) spawnPoint;
+                spawnPoints.add(new SpawnPointRecord(toLocation(world, values), Boolean.valueOf(values.get(LOCKED_INDEX))));
+            }
+        }
+        Location spectatorSpawnPoint = null;
+        if (section.contains("SpectatorSpawnpoint")) {
+            List<String> values = section.getStringList("SpectatorSpawnpoint");
+            if (!values.isEmpty()) {
+                spectatorSpawnPoint = toLocation(world, values);
+            }
+        }
+        List<ZoneRecord> zones = new ArrayList<>();
+        if (section.contains("Zones")) {
+            ConfigurationSection zonesSection = section.getConfigurationSection("Zones");
+            for (String zoneKey : zonesSection.getKeys(false)) {
+                ConfigurationSection zoneSection = zonesSection.getConfigurationSection(zoneKey);
+                zones.add(new ZoneRecord(zoneKey, toLocation(world, zoneSection.getStringList("Center")), zoneSection.getInt("Radius"), RadiusType.valueOf(zoneSection.getString("RadiusType"))));
+            }
+        }
+        return new ArenaRecord(gameName, arenaName, status, minPlayers, maxPlayers, region, lobbyRegion, lobbySpawnPoint, allowExplosionDamage, allowExplosionBlockBreaking,
+                allowMobSpawning, spawnPoints, spectatorSpawnPoint, zones, StoredSign.fromSection(section));
+    }
+
+    /**
+     * Converts a location in list form back to a location.
+     *
+     * @param world  The world of the location.
+     * @param values The x, y, z, pitch and yaw of the location.
+     * @return The location.
+     */
+    private static Location toLocation(World world, List<String> values) {
+        Location location = new Location(world, Double.valueOf(values.get(X_INDEX)), Double.valueOf(values.get(Y_INDEX)), Double.valueOf(values.get(Z_INDEX)));
+        location.setPitch(Float.valueOf(values.get(PITCH_INDEX)));
+        location.setYaw(Float.valueOf(values.get(YAW_INDEX)));
+        return location;
+    }
+
+    String getGameName() {
+        return gameName;
+    }
+
+    String getArenaName() {
+        return arenaName;
+    }
+
+    ArenaStatus getStatus() {
+        return status;
+    }
+
+    int getMinPlayers() {
+        return minPlayers;
+    }
+
+    int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    URegion getRegion() {
+        return region;
+    }
+
+    URegion getLobbyRegion() {
+        return lobbyRegion;
+    }
+
+    Location getLobbySpawnPoint() {
+        return lobbySpawnPoint;
+    }
+
+    boolean allowExplosionDamage() {
+        return allowExplosionDamage;
+    }
+
+    boolean allowExplosionBlockBreaking() {
+        return allowExplosionBlockBreaking;
+    }
+
+    boolean allowMobSpawning() {
+        return allowMobSpawning;
+    }
+
+    List<SpawnPointRecord> getSpawnPoints() {
+        return spawnPoints;
+    }
+
+    Location getSpectatorSpawnPoint() {
+        return spectatorSpawnPoint;
+    }
+
+    List<ZoneRecord> getZones() {
+        return zones;
+    }
+
+    List<StoredSign> getSigns() {
+        return signs;
+    }
+
+    /**
+     * A stored player spawn point.
+     */
+    static final class SpawnPointRecord {
+        private final Location location;
+        private final boolean locked;
+
+        SpawnPointRecord(Location location, boolean locked) {
+            this.location = location;
+            this.locked = locked;
+        }
+
+        Location getLocation() {
+            return location;
+        }
+
+        boolean isLocked() {
+            return locked;
+        }
+    }
+
+    /**
+     * A stored zone.
+     */
+    static final class ZoneRecord {
+        private final String name;
+        private final Location center;
+        private final int radius;
+        private final RadiusType radiusType;
+
+        ZoneRecord(String name, Location center, int radius, RadiusType radiusType) {
+            this.name = name;
+            this.center = center;
+            this.radius = radius;
+            this.radiusType = radiusType;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Location getCenter() {
+            return center;
+        }
+
+        int getRadius() {
+            return radius;
+        }
+
+        RadiusType getRadiusType() {
+            return radiusType;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.arenas;
+
+import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+import me.ampayne2.ultimategames.api.arenas.zones.RadiusType;
+import me.ampayne2.ultimategames.api.signs.SignType;
+import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.config.UArenaConfigAccessor;
+import me.ampayne2.ultimategames.core.signs.StoredSign;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * A binary snapshot of the arenas stored in the arena configs, so that the arena registry can be loaded at startup
+ * without parsing every arena config.<br>
+ * The snapshot holds the checksum of the arena configs it was written from and is only used while the configs are unchanged.
+ * It is rewritten at shutdown, after the configs are flushed to disk, parsing only the arena configs that were loaded since startup.
+ */
+public class ArenaRegistryCache {
+    private final UG ultimateGames;
+    private final File file;
+    private final Map<String, ArenaRecord> loadedRecords = new HashMap<>();
+    private boolean valid;
+    private static final String FILE_NAME = "Arenas.cache";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int MAGIC = 0x55474152;
+    private static final int VERSION = 2;
+
+    /**
+     * Creates a new ArenaRegistryCache.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     */
+    public ArenaRegistryCache(UG ultimateGames) {
+        this.ultimateGames = ultimateGames;
+        this.file = new File(ultimateGames.getDataFolder(), FILE_NAME);
+    }
+
+    /**
+     * Loads the stored arenas from the snapshot with a single read.
+     *
+     * @return The records of the stored arenas, or null if there is no snapshot of the current arena configs.
+     */
+    List<ArenaRecord> load() {
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())));
+            if (input.readInt() != MAGIC || input.readInt() != VERSION || input.readLong() != checksum(ArenaRecord.getArenaFiles(ultimateGames))) {
+                return null;
+            }
+            int arenaAmount = input.readInt();
+            List<ArenaRecord> records = new ArrayList<>(arenaAmount);
+            for (int i = 0; i < arenaAmount; i++) {
+                records.add(readArena(input));
+            }
+            for (ArenaRecord record : records) {
+                loadedRecords.put(getKey(record.getGameName(), record.getArenaName()), record);
+            }
+            valid = true;
+            ultimateGames.getMessenger().debug("Loaded " + arenaAmount + " arenas from " + FILE_NAME);
+            return records;
+        } catch (IOException | IllegalArgumentException e) {
+            ultimateGames.getMessenger().log(Level.WARNING, "Could not load " + FILE_NAME + ", loading arenas from " + UArenaConfigAccessor.ARENA_FOLDER + File.separator);
+            ultimateGames.getMessenger().debug(e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the arena configs on disk. Skipped if the loaded snapshot is still current.<br>
+     * Arena configs that weren't loaded since the snapshot was loaded are unchanged, so their records are reused.
+     */
+    public void save() {
+        if (valid && !anyArenaConfigLoaded()) {
+            return;
+        }
+        File tempFile = new File(file.getParentFile(), file.getName() + TEMP_EXTENSION);
+        try {
+            List<File> arenaFiles = ArenaRecord.getArenaFiles(ultimateGames);
+            List<ArenaRecord> records = new ArrayList<>(arenaFiles.size());
+            for (File arenaFile : arenaFiles) {
+                UArenaConfigAccessor configAccessor = ArenaRecord.getConfigAccessor(ultimateGames, arenaFile);
+                ArenaRecord record = loadedRecords.get(getKey(configAccessor.getGameName(), configAccessor.getArenaName()));
+                if (record == null || configAccessor.isLoaded()) {
+                    record = ArenaRecord.fromConfig(configAccessor);
+                }
+                if (record.getRegion() == null) {
+                    // The arena's world isn't loaded, so the snapshot couldn't be loaded like the configs
+                    Files.deleteIfExists(file.toPath());
+                    return;
+                }
+                records.add(record);
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeLong(checksum(arenaFiles));
+                output.writeInt(records.size());
+                for (ArenaRecord record : records) {
+                    writeArena(output, record);
+                }
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            ultimateGames.getMessenger().log(Level.SEVERE, "Could not save " + FILE_NAME);
+            ultimateGames.getMessenger().debug(e);
+        }
+    }
+
+    /**
+     * Checks if any arena config has been loaded since startup, and so might have changed.
+     *
+     * @return True if an arena config has been loaded, else false.
+     */
+    private boolean anyArenaConfigLoaded() {
+        for (UArenaConfigAccessor configAccessor : ultimateGames.getConfigManager().getArenaConfigAccessors()) {
+            if (configAccessor.isLoaded()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getKey(String gameName, String arenaName) {
+        return gameName + "/" + arenaName;
+    }
+
+    /**
+     * Calculates the CRC32 checksum of the names and contents of the arena config files.
+     *
+     * @param arenaFiles The arena config files, sorted by game and arena name.
+     * @return The checksum.
+     * @throws IOException If a file can't be read.
+     */
+    private static long checksum(List<File> arenaFiles) throws IOException {
+        CRC32 crc = new CRC32();
+        for (File arenaFile : arenaFiles) {
+            crc.update((arenaFile.getParentFile().getName() + "/" + arenaFile.getName()).getBytes(StandardCharsets.UTF_8));
+            crc.update(Files.readAllBytes(arenaFile.toPath()));
+        }
+        return crc.getValue();
+    }
+
+    private static void writeArena(DataOutput output, ArenaRecord record) throws IOException {
+        output.writeUTF(record.getGameName());
+        output.writeUTF(record.getArenaName());
+        output.writeUTF(record.getStatus().name());
+        output.writeInt(record.getMinPlayers());
+        output.writeInt(record.getMaxPlayers());
+        writeRegion(output, record.getRegion());
+        output.writeBoolean(record.getLobbyRegion() != null);
+        if (record.getLobbyRegion() != null) {
+            writeRegion(output, record.getLobbyRegion());
+        }
+        output.writeBoolean(record.getLobbySpawnPoint() != null);
+        if (record.getLobbySpawnPoint() != null) {
+            World world = record.getLobbySpawnPoint().getWorld();
+            output.writeUTF(world == null ? "" : world.getName());
+            writeLocation(output, record.getLobbySpawnPoint());
+        }
+        output.writeBoolean(record.allowExplosionDamage());
+        output.writeBoolean(record.allowExplosionBlockBreaking());
+        output.writeBoolean(record.allowMobSpawning());
+        output.writeInt(record.getSpawnPoints().size());
+        for (ArenaRecord.SpawnPointRecord spawnPoint : record.getSpawnPoints()) {
+            writeLocation(output, spawnPoint.getLocation());
+            output.writeBoolean(spawnPoint.isLocked());
+        }
+        output.writeBoolean(record.getSpectatorSpawnPoint() != null);
+        if (record.getSpectatorSpawnPoint() != null) {
+            writeLocation(output, record.getSpectatorSpawnPoint());
+        }
+        output.writeInt(record.getZones().size());
+        for (ArenaRecord.ZoneRecord zone : record.getZones()) {
+            output.writeUTF(zone.getName());
+            output.writeInt(zone.getRadius());
+            output.writeUTF(zone.getRadiusType().name());
+            writeLocation(output, zone.getCenter());
+        }
+        output.writeInt(record.getSigns().size());
+        for (StoredSign sign : record.getSigns()) {
+            output.writeUTF(sign.getSignType().name());
+            output.writeUTF(sign.getWorldName());
+            output.writeInt(sign.getX());
+            output.writeInt(sign.getY());
+            output.writeInt(sign.getZ());
+            output.writeBoolean(sign.getLabel() != null);
+            if (sign.getLabel() != null) {
+                output.writeUTF(sign.getLabel());
+            }
+        }
+    }
+
+    private static ArenaRecord readArena(DataInput input) throws IOException {
+        String gameName = input.readUTF();
+        String arenaName = input.readUTF();
+        ArenaStatus status = ArenaStatus.valueOf(input.readUTF());
+        int minPlayers = input.readInt();
+        int maxPlayers = input.readInt();
+        URegion region = readRegion(input);
+        URegion lobbyRegion = input.readBoolean() ? readRegion(input) : null;
+        Location lobbySpawnPoint = null;
+        if (input.readBoolean()) {
+            String worldName = input.readUTF();
+            lobbySpawnPoint = readLocation(input, worldName.isEmpty() ? null : getWorld(worldName));
+        }
+        boolean allowExplosionDamage = input.readBoolean();
+        boolean allowExplosionBlockBreaking = input.readBoolean();
+        boolean allowMobSpawning = input.readBoolean();
+        int spawnPointAmount = input.readInt();
+        List<ArenaRecord.SpawnPointRecord> spawnPoints = new ArrayList<>(spawnPointAmount);
+        for (int i = 0; i < spawnPointAmount; i++) {
+            spawnPoints.add(new ArenaRecord.SpawnPointRecord(readLocation(input, region.getWorld()), input.readBoolean()));
+        }
+        Location spectatorSpawnPoint = input.readBoolean() ? readLocation(input, region.getWorld()) : null;
+        int zoneAmount = input.readInt();
+        List<ArenaRecord.ZoneRecord> zones = new ArrayList<>(zoneAmount);
+        for (int i = 0; i < zoneAmount; i++) {
+            String name = input.readUTF();
+            int radius = input.readInt();
+            RadiusType radiusType = RadiusType.valueOf(input.readUTF());
+            zones.add(new ArenaRecord.ZoneRecord(name, readLocation(input, region.getWorld()), radius, radiusType));
+        }
+        int signAmount = input.readInt();
+        List<StoredSign> signs = new ArrayList<>(signAmount);
+        for (int i = 0; i < signAmount; i++) {
+            SignType signType = SignType.valueOf(input.readUTF());
+            String worldName = input.readUTF();
+            int x = input.readInt();
+            int y = input.readInt();
+            int z = input.readInt();
+            signs.add(new StoredSign(signType, worldName, x, y, z, input.readBoolean() ? input.readUTF() : null));
+        }
+        return new ArenaRecord(gameName, arenaName, status, minPlayers, maxPlayers, region, lobbyRegion, lobbySpawnPoint, allowExplosionDamage, allowExplosionBlockBreaking,
+                allowMobSpawning, spawnPoints, spectatorSpawnPoint, zones, signs);
+    }
+
+    private static void writeRegion(DataOutput output, URegion region) throws IOException {
+        output.writeUTF(region.getWorld().getName());
+        output.writeDouble(region.getMinX());
+        output.writeDouble(region.getMaxX());
+        output.writeDouble(region.getMinZ());
+        output.writeDouble(region.getMaxZ());
+    }
+
+    private static URegion readRegion(DataInput input) throws IOException {
+        return new URegion(getWorld(input.readUTF()), input.readDouble(), input.readDouble(), input.readDouble(), input.readDouble());
+    }
+
+    private static void writeLocation(DataOutput output, Location location) throws IOException {
+        output.writeDouble(location.getX());
+        output.writeDouble(location.getY());
+        output.writeDouble(location.getZ());
+        output.writeFloat(location.getPitch());
+        output.writeFloat(location.getYaw());
+    }
+
+    private static Location readLocation(DataInput input, World world) throws IOException {
+        Location location = new Location(world, input.readDouble(), input.readDouble(), input.readDouble());
+        location.setPitch(input.readFloat());
+        location.setYaw(input.readFloat());
+        return location;
+    }
+
+    /**
+     * Gets a loaded world by name.
+     *
+     * @param name The name of the world.
+     * @return The world.
+     * @throws IOException If the world isn't loaded, so the snapshot can't be used.
+     */
+    private static World getWorld(String name) throws IOException {
+        World world = Bukkit.getWorld(name);
+        if (world == null) {
+            throw new IOException("The world " + name + " isn't loaded");
+        }
+        return world;
+    }
+}
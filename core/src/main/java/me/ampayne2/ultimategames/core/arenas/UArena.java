@@ -21,7 +21,6 @@ package me.ampayne2.ultimategames.core.arenas;
 import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
 import me.ampayne2.ultimategames.api.arenas.Region;
-import me.ampayne2.ultimategames.api.config.ConfigType;
 import me.ampayne2.ultimategames.api.games.Game;
 import me.ampayne2.ultimategames.api.games.PlayerType;
 import me.ampayne2.ultimategames.api.message.UGMessage;
@@ -33,9 +32,6 @@ import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 
@@ -44,7 +40,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class UArena implements Listener, Arena {
+public class UArena implements Arena {
     private final UG ultimateGames;
     private final Game game;
     private String arenaName;
@@ -60,8 +56,8 @@ public class UArena implements Listener, Arena {
     private URegion lobbyRegion;
     private Location lobbySpawnPoint;
     private Map<String, Location> lastLocations = new HashMap<>();
-    private static final int DEFAULT_MIN_PLAYERS = 4;
-    private static final int DEFAULT_MAX_PLAYERS = 8;
+    static final int DEFAULT_MIN_PLAYERS = 4;
+    static final int DEFAULT_MAX_PLAYERS = 8;
 
     /**
      * Creates an arena from default settings.
@@ -93,8 +89,6 @@ public class UArena implements Listener, Arena {
         }
 
         region = URegion.fromCorners(corner1, corner2);
-
-        ultimateGames.getServer().getPluginManager().registerEvents(this, ultimateGames);
     }
 
     /**
@@ -105,48 +99,30 @@ public class UArena implements Listener, Arena {
      * @param section       The ConfigurationSection.
      */
     public UArena(UG ultimateGames, Game game, ConfigurationSection section) {
+        this(ultimateGames, game, ArenaRecord.fromSection(game.getName(), section.getName(), section, ultimateGames.getConfigManager().getArenaConfigAccessor(game.getName(), section.getName())));
+    }
+
+    /**
+     * Loads an arena from its stored record.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param game          The game of the arena.
+     * @param record        The record.
+     */
+    UArena(UG ultimateGames, Game game, ArenaRecord record) {
         this.ultimateGames = ultimateGames;
-        this.arenaName = section.getName();
+        this.arenaName = record.getArenaName();
         this.game = game;
 
-        arenaStatus = ArenaStatus.valueOf(section.getString("Status", "ARENA_STOPPED"));
-        maxPlayers = section.getInt("Max-Players", DEFAULT_MAX_PLAYERS);
-        minPlayers = section.getInt("Min-Players", DEFAULT_MIN_PLAYERS);
-        if (section.contains("Arena-Region")) {
-            region = URegion.fromList(section.getStringList("Arena-Region"));
-            section.set("Arena-Region", null);
-            section.set("Region", region.toList());
-
-            ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA).saveConfig();
-        } else {
-            region = URegion.fromList(section.getStringList("Region"));
-            if (section.contains("LobbyRegion")) {
-                lobbyRegion = URegion.fromList(section.getStringList("LobbyRegion"));
-                lobbySpawnPoint = (Location) section.get("LobbySpawnPoint");
-            }
-        }
-
-        if (section.contains("Allow")) {
-            ConfigurationSection allow = section.getConfigurationSection("Allow");
-            allowExplosionDamage = allow.getBoolean("Explosion-Damage", false);
-            allowExplosionBlockBreaking = allow.getBoolean("Explosion-Block-Breaking", false);
-            allowMobSpawning = allow.getBoolean("Mob-Spawning", false);
-        } else {
-            allowExplosionDamage = section.getBoolean("Allow-Explosion-Damage", false);
-            allowExplosionBlockBreaking = section.getBoolean("Allow-Explosion-Block-Breaking", false);
-            allowMobSpawning = section.getBoolean("Allow-Mob-Spawning", false);
-            section.set("Allow-Explosion-Damage", null);
-            section.set("Allow-Explosion-Block-Breaking", null);
-            section.set("Allow-Mob-Spawning", null);
-            ConfigurationSection allow = section.createSection("Allow");
-            allow.set("Explosion-Damage", allowExplosionDamage);
-            allow.set("Explosion-Block-Breaking", allowExplosionBlockBreaking);
-            allow.set("Mob-Spawning", allowMobSpawning);
-
-            ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA).saveConfig();
-        }
-
-        ultimateGames.getServer().getPluginManager().registerEvents(this, ultimateGames);
+        arenaStatus = record.getStatus();
+        maxPlayers = record.getMaxPlayers();
+        minPlayers = record.getMinPlayers();
+        region = record.getRegion();
+        lobbyRegion = record.getLobbyRegion();
+        lobbySpawnPoint = record.getLobbySpawnPoint();
+        allowExplosionDamage = record.allowExplosionDamage();
+        allowExplosionBlockBreaking = record.allowExplosionBlockBreaking();
+        allowMobSpawning = record.allowMobSpawning();
     }
 
     /**
@@ -189,7 +165,9 @@ public class UArena implements Listener, Arena {
                 //We teleport the player to the lobby
                 Bukkit.getPlayer(playerName).teleport(lobbySpawnPoint);
             }
-            ultimateGames.getSignManager().updateSignsOfArena(this, SignType.LOBBY);
+            ultimateGames.getSignManager().requestSignUpdate(this, SignType.LOBBY);
+            ultimateGames.getArenaStatePublisher().markDirty(this);
+            ultimateGames.getArenaEventStream().playersChanged(this);
             return true;
         }
     }
@@ -201,7 +179,11 @@ public class UArena implements Listener, Arena {
      * @return True if the spectator was added, else false.
      */
     public boolean addSpectator(String playerName) {
-        return !spectators.contains(playerName) && spectators.add(playerName);
+        if (!spectators.contains(playerName) && spectators.add(playerName)) {
+            ultimateGames.getArenaStatePublisher().markDirty(this);
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -212,7 +194,9 @@ public class UArena implements Listener, Arena {
     public void removePlayer(String playerName) {
         if (players.contains(playerName)) {
             players.remove(playerName);
-            ultimateGames.getSignManager().updateSignsOfArena(this, SignType.LOBBY);
+            ultimateGames.getSignManager().requestSignUpdate(this, SignType.LOBBY);
+            ultimateGames.getArenaStatePublisher().markDirty(this);
+            ultimateGames.getArenaEventStream().playersChanged(this);
         }
     }
 
@@ -224,7 +208,8 @@ public class UArena implements Listener, Arena {
     public void removeSpectator(String playerName) {
         if (spectators.contains(playerName)) {
             spectators.remove(playerName);
-            ultimateGames.getSignManager().updateSignsOfArena(this, SignType.LOBBY);
+            ultimateGames.getSignManager().requestSignUpdate(this, SignType.LOBBY);
+            ultimateGames.getArenaStatePublisher().markDirty(this);
         }
     }
 
@@ -324,71 +309,57 @@ public class UArena implements Listener, Arena {
         if (!status.equals(arenaStatus)) {
             arenaStatus = status;
             getSection().set("Status", status.toString());
-            ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA).saveConfig();
+            ultimateGames.getConfigManager().getArenaConfigAccessor(this).saveConfig();
             if (ultimateGames.getSignManager() != null) {
-                ultimateGames.getSignManager().updateSignsOfArena(this, SignType.LOBBY);
+                ultimateGames.getSignManager().requestSignUpdate(this, SignType.LOBBY);
             }
+            ultimateGames.getArenaStatePublisher().markDirty(this);
+            ultimateGames.getArenaEventStream().statusChanged(this);
+            ultimateGames.getMetricsManager().arenaStatusChanged(this);
             ultimateGames.getMessenger().debug("Set status of arena " + arenaName + " of game " + game.getName() + " to " + status.toString());
         }
     }
 
     /**
-     * Handles player movement to keep players or spectators from leaving the arena.
-     * @param event the PlayerMove event.
+     * Handles the movement of a player in the arena to keep the player from leaving the arena.<br>
+     * Called by the {@link me.ampayne2.ultimategames.core.arenas.ArenaListener} once the player's arena is known.
+     *
+     * @param event The PlayerMove event.
      */
-    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
-    public void onPlayerMove(PlayerMoveEvent event) {
-        Location from = event.getFrom();
+    public void handlePlayerMove(PlayerMoveEvent event) {
         Location to = event.getTo();
         Player player = event.getPlayer();
         String playerName = player.getName();
-        if (!(from.getBlockX() == to.getBlockX() && from.getBlockZ() == to.getBlockZ()) && players.contains(playerName)) {
-            //We first check if we have a lobby region
-            if (lobbyRegion != null && !getStatus().equals(ArenaStatus.RUNNING)) {
-                if ((to.getX() < lobbyRegion.getMinX() || to.getX() > lobbyRegion.getMaxX() || to.getZ() < lobbyRegion.getMinZ() || to.getZ() > lobbyRegion.getMaxZ()) && lastLocations.containsKey(playerName)) {
-                    Location lastLocation = lastLocations.get(playerName);
-                    lastLocation.setPitch(to.getPitch());
-                    lastLocation.setYaw(to.getYaw());
-                    UGUtils.teleportEntity(player, lastLocation);
-                    ultimateGames.getMessenger().sendMessage(player, UGMessage.ARENA_LEAVE_REGION);
-                } else {
-                    lastLocations.put(playerName, to);
-                    game.getGamePlugin().onPlayerMove(this, event);
-                }
-            } else {
-                if ((to.getX() < region.getMinX() || to.getX() > region.getMaxX() || to.getZ() < region.getMinZ() || to.getZ() > region.getMaxZ()) && lastLocations.containsKey(playerName)) {
-                    Location lastLocation = lastLocations.get(playerName);
-                    lastLocation.setPitch(to.getPitch());
-                    lastLocation.setYaw(to.getYaw());
-                    UGUtils.teleportEntity(player, lastLocation);
-                    ultimateGames.getMessenger().sendMessage(player, UGMessage.ARENA_LEAVE_REGION);
-                } else {
-                    lastLocations.put(playerName, to);
-                    game.getGamePlugin().onPlayerMove(this, event);
-                }
-            }
+        //We first check if we have a lobby region
+        URegion currentRegion = lobbyRegion != null && !getStatus().equals(ArenaStatus.RUNNING) ? lobbyRegion : region;
+        if ((to.getX() < currentRegion.getMinX() || to.getX() > currentRegion.getMaxX() || to.getZ() < currentRegion.getMinZ() || to.getZ() > currentRegion.getMaxZ()) && lastLocations.containsKey(playerName)) {
+            Location lastLocation = lastLocations.get(playerName);
+            lastLocation.setPitch(to.getPitch());
+            lastLocation.setYaw(to.getYaw());
+            UGUtils.teleportEntity(player, lastLocation);
+            ultimateGames.getMessenger().sendMessage(player, UGMessage.ARENA_LEAVE_REGION);
+        } else {
+            lastLocations.put(playerName, to);
+            game.getGamePlugin().onPlayerMove(this, event);
         }
     }
 
     /**
-     * Stops players and spectators from teleporting out of an arena.
-     * @param event The PlayerTeleport event
+     * Stops a player or spectator of the arena from teleporting out of the arena.<br>
+     * Called by the {@link me.ampayne2.ultimategames.core.arenas.ArenaListener} once the player's arena is known.
+     *
+     * @param event The PlayerTeleport event.
      */
-    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
-    public void onPlayerTeleport(PlayerTeleportEvent event) {
-        Player player = event.getPlayer();
-        String playerName = player.getName();
-        if ((players.contains(playerName) || spectators.contains(playerName)) && !locationIsInArena(event.getTo())) {
+    public void handlePlayerTeleport(PlayerTeleportEvent event) {
+        if (!locationIsInArena(event.getTo())) {
             event.setCancelled(true);
-            ultimateGames.getMessenger().sendMessage(player, UGMessage.ARENA_LEAVE_REGION);
+            ultimateGames.getMessenger().sendMessage(event.getPlayer(), UGMessage.ARENA_LEAVE_REGION);
         }
     }
 
     @Override
     public ConfigurationSection getSection() {
-        FileConfiguration arenaConfig = ultimateGames.getConfigManager().getConfig(ConfigType.ARENA);
-        String arenaPath = "Arenas." + game.getName() + "." + arenaName;
-        return arenaConfig.contains(arenaPath) ? arenaConfig.getConfigurationSection(arenaPath) : arenaConfig.createSection(arenaPath);
+        return ultimateGames.getConfigManager().getArenaConfig(this);
     }
 
     /**
@@ -410,7 +381,7 @@ public class UArena implements Listener, Arena {
         allow.set("Explosion-Block-Breaking", allowExplosionBlockBreaking);
         allow.set("Mob-Spawning", allowMobSpawning);
 
-        ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA).saveConfig();
+        ultimateGames.getConfigManager().getArenaConfigAccessor(this).saveConfig();
     }
 
     @Override
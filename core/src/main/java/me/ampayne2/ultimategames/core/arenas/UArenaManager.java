@@ -23,16 +23,17 @@ import me.ampayne2.ultimategames.api.arenas.ArenaManager;
 import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
 import me.ampayne2.ultimategames.api.arenas.EndType;
 import me.ampayne2.ultimategames.api.arenas.spawnpoints.PlayerSpawnPoint;
-import me.ampayne2.ultimategames.api.config.ConfigType;
+import me.ampayne2.ultimategames.api.arenas.spawnpoints.SpectatorSpawnPoint;
 import me.ampayne2.ultimategames.api.events.arenas.*;
 import me.ampayne2.ultimategames.api.games.Game;
 import me.ampayne2.ultimategames.api.message.UGMessage;
 import me.ampayne2.ultimategames.api.players.teams.Team;
 import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.arenas.grid.UPlayerGrid;
 import me.ampayne2.ultimategames.core.arenas.zones.UZone;
+import me.ampayne2.ultimategames.core.signs.StoredSign;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.configuration.file.FileConfiguration;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -43,12 +44,10 @@ import java.util.Map.Entry;
 public class UArenaManager implements ArenaManager {
     private final UG ultimateGames;
     private Map<Game, List<Arena>> arenas = new HashMap<>();
-    private static final int X_INDEX = 0;
-    private static final int Y_INDEX = 1;
-    private static final int Z_INDEX = 2;
-    private static final int PITCH_INDEX = 3;
-    private static final int YAW_INDEX = 4;
-    private static final int LOCKED_INDEX = 5;
+    private final ArenaIndex arenaIndex = new ArenaIndex();
+    private final Map<Arena, UPlayerGrid> playerGrids = new HashMap<>();
+    private final Map<Arena, List<StoredSign>> loadedSigns = new HashMap<>();
+    private final ArenaRegistryCache registryCache;
 
     /**
      * Creates a new ArenaManager.
@@ -57,61 +56,64 @@ public class UArenaManager implements ArenaManager {
      */
     public UArenaManager(UG ultimateGames) {
         this.ultimateGames = ultimateGames;
-        FileConfiguration arenaConfig = ultimateGames.getConfigManager().getConfig(ConfigType.ARENA);
-        if (arenaConfig.getConfigurationSection("Arenas") != null) {
-            for (String gameKey : arenaConfig.getConfigurationSection("Arenas").getKeys(false)) {
-                if (ultimateGames.getGameManager().gameExists(gameKey)) {
-                    String gamePath = "Arenas." + gameKey;
-                    for (String arenaKey : arenaConfig.getConfigurationSection(gamePath).getKeys(false)) {
-                        if (!arenaExists(arenaKey, gameKey)) {
-                            String arenaPath = gamePath + "." + arenaKey;
-                            UArena arena = new UArena(ultimateGames, ultimateGames.getGameManager().getGame(gameKey), arenaConfig.getConfigurationSection(arenaPath));
-                            addArena(arena);
-                            if (arenaConfig.contains(arenaPath + ".SpawnPoints")) {
-                                @SuppressWarnings("unchecked") List<ArrayList<String>> spawnPoints = (ArrayList<ArrayList<String>>) arenaConfig.getList(arenaPath + ".SpawnPoints");
-                                if (!spawnPoints.isEmpty()) {
-                                    for (List<String> spawnPoint : spawnPoints) {
-                                        Double x = Double.valueOf(spawnPoint.get(X_INDEX));
-                                        Double y = Double.valueOf(spawnPoint.get(Y_INDEX));
-                                        Double z = Double.valueOf(spawnPoint.get(Z_INDEX));
-                                        Float pitch = Float.valueOf(spawnPoint.get(PITCH_INDEX));
-                                        Float yaw = Float.valueOf(spawnPoint.get(YAW_INDEX));
-                                        Location location = new Location(arena.getRegion().getWorld(), x, y, z);
-                                        location.setPitch(pitch);
-                                        location.setYaw(yaw);
-                                        PlayerSpawnPoint newSpawnPoint = new PlayerSpawnPoint(ultimateGames, getArena(arenaKey, gameKey), location, Boolean.valueOf(spawnPoint.get(LOCKED_INDEX)));
-                                        ultimateGames.getSpawnpointManager().addSpawnPoint(newSpawnPoint);
-                                    }
-                                }
-                            }
-                            if (arenaConfig.contains(arenaPath + ".SpectatorSpawnpoint")) {
-                                @SuppressWarnings("unchecked") List<String> spawnPoint = (ArrayList<String>) arenaConfig.getList(arenaPath + ".SpectatorSpawnpoint");
-                                if (!spawnPoint.isEmpty()) {
-                                    Double x = Double.valueOf(spawnPoint.get(X_INDEX));
-                                    Double y = Double.valueOf(spawnPoint.get(Y_INDEX));
-                                    Double z = Double.valueOf(spawnPoint.get(Z_INDEX));
-                                    Float pitch = Float.valueOf(spawnPoint.get(PITCH_INDEX));
-                                    Float yaw = Float.valueOf(spawnPoint.get(YAW_INDEX));
-                                    Location location = new Location(arena.getRegion().getWorld(), x, y, z);
-                                    location.setPitch(pitch);
-                                    location.setYaw(yaw);
-                                    ultimateGames.getSpawnpointManager().setSpectatorSpawnPoint(getArena(arenaKey, gameKey), location);
-                                }
-                            }
-                            String zonesPath = arenaPath + ".Zones";
-                            if (arenaConfig.contains(zonesPath)) {
-                                for (String zoneKey : arenaConfig.getConfigurationSection(zonesPath).getKeys(false)) {
-                                    String zonePath = zonesPath + "." + zoneKey;
-                                    ultimateGames.getZoneManager().addZone(new UZone(ultimateGames, arena, arenaConfig.getConfigurationSection(zonePath)));
-                                }
-                            }
-                        }
-                    }
-                }
+        ArenaConfigMigration.migrate(ultimateGames);
+        registryCache = new ArenaRegistryCache(ultimateGames);
+        List<ArenaRecord> records = registryCache.load();
+        if (records == null) {
+            records = ArenaRecord.fromConfigs(ultimateGames);
+        }
+        for (ArenaRecord record : records) {
+            if (ultimateGames.getGameManager().gameExists(record.getGameName()) && !arenaExists(record.getArenaName(), record.getGameName())) {
+                loadArena(record);
             }
         }
     }
 
+    /**
+     * Creates an arena, its spawn points and its zones from a stored record without saving them again.<br>
+     * The arena's signs are kept until the {@link me.ampayne2.ultimategames.core.signs.USignManager} loads them.
+     *
+     * @param record The record.
+     */
+    private void loadArena(ArenaRecord record) {
+        UArena arena = new UArena(ultimateGames, ultimateGames.getGameManager().getGame(record.getGameName()), record);
+        registerArena(arena);
+        for (ArenaRecord.SpawnPointRecord spawnPoint : record.getSpawnPoints()) {
+            ultimateGames.getSpawnpointManager().addSpawnPoint(new PlayerSpawnPoint(ultimateGames, arena, spawnPoint.getLocation(), spawnPoint.isLocked()));
+        }
+        if (record.getSpectatorSpawnPoint() != null) {
+            ultimateGames.getSpawnpointManager().addSpectatorSpawnPoint(new SpectatorSpawnPoint(arena, record.getSpectatorSpawnPoint()));
+        }
+        for (ArenaRecord.ZoneRecord zone : record.getZones()) {
+            ultimateGames.getZoneManager().loadZone(new UZone(ultimateGames, arena, zone.getName(), zone.getCenter(), zone.getRadius(), zone.getRadiusType()));
+        }
+        loadedSigns.put(arena, record.getSigns());
+    }
+
+    /**
+     * Gets the stored signs of an arena. Read from the arena's config if it has been loaded since the arena was loaded,
+     * else the signs stored when the arena was loaded are still current.
+     *
+     * @param arena The arena.
+     * @return The stored signs.
+     */
+    public List<StoredSign> getStoredSigns(Arena arena) {
+        List<StoredSign> signs = loadedSigns.get(arena);
+        if (signs == null || ultimateGames.getConfigManager().getArenaConfigAccessor(arena).isLoaded()) {
+            signs = StoredSign.fromSection(arena.getSection());
+        }
+        return signs;
+    }
+
+    /**
+     * Gets the binary cache of the stored arenas.
+     *
+     * @return The {@link me.ampayne2.ultimategames.core.arenas.ArenaRegistryCache}.
+     */
+    public ArenaRegistryCache getRegistryCache() {
+        return registryCache;
+    }
+
     @Override
     public boolean arenaExists(String arenaName, String gameName) {
         if (ultimateGames.getGameManager().gameExists(gameName) && arenas.containsKey(ultimateGames.getGameManager().getGame(gameName))) {
@@ -132,14 +134,7 @@ public class UArenaManager implements ArenaManager {
 
     @Override
     public Arena getLocationArena(Location location) {
-        for (Entry<Game, List<Arena>> entry : arenas.entrySet()) {
-            for (Arena arena : entry.getValue()) {
-                if (arena.locationIsInArena(location)) {
-                    return arena;
-                }
-            }
-        }
-        return null;
+        return arenaIndex.get(location);
     }
 
     @Override
@@ -170,6 +165,15 @@ public class UArenaManager implements ArenaManager {
      */
     public void addArena(UArena arena) {
         arena.save();
+        registerArena(arena);
+    }
+
+    /**
+     * Adds an arena to the manager if its game accepts it.
+     *
+     * @param arena The arena.
+     */
+    private void registerArena(UArena arena) {
         if (arena.getGame().getGamePlugin().loadArena(arena)) {
             if (arenas.containsKey(arena.getGame())) {
                 arenas.get(arena.getGame()).add(arena);
@@ -178,10 +182,22 @@ public class UArenaManager implements ArenaManager {
                 gameArenas.add(arena);
                 arenas.put(arena.getGame(), gameArenas);
             }
+            arenaIndex.add(arena);
+            ultimateGames.getArenaStatePublisher().markDirty(arena);
             ultimateGames.getMetricsManager().addArena(arena);
         }
     }
 
+    @Override
+    public UPlayerGrid getPlayerGrid(Arena arena) {
+        UPlayerGrid playerGrid = playerGrids.get(arena);
+        if (playerGrid == null) {
+            playerGrid = new UPlayerGrid(ultimateGames, arena);
+            playerGrids.put(arena, playerGrid);
+        }
+        return playerGrid;
+    }
+
     @Override
     public void openArena(Arena arena) {
         if (arenaExists(arena.getName(), arena.getGame().getName())) {
@@ -246,6 +262,7 @@ public class UArenaManager implements ArenaManager {
                     case STARTING:
                         if (arena.getGame().getGamePlugin().beginArena(arena)) {
                             ((UArena) arena).setStatus(ArenaStatus.RUNNING);
+                            ultimateGames.getMetricsManager().matchStarted(arena);
                             ultimateGames.getMessenger().sendMessage(arena, UGMessage.ARENA_BEGIN);
                             ultimateGames.getMessenger().debug("Began arena " + arena.getName() + " of game " + arena.getGame().getName());
                         }
@@ -283,6 +300,8 @@ public class UArenaManager implements ArenaManager {
                     }
 
                     ultimateGames.getMessenger().sendMessage(arena, UGMessage.ARENA_END);
+                    ultimateGames.getArenaEventStream().arenaEnded(arena, event.getEndType());
+                    ultimateGames.getMetricsManager().matchEnded(arena, event.getEndType());
 
                     // Teleport everybody out of the arena
                     for (String playerName : arena.getSpectators()) {
@@ -28,13 +28,17 @@ import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 public class UQueueManager implements QueueManager {
     private final UG ultimateGames;
-    private final Map<Arena, List<String>> queue = new HashMap<>();
+    private final Map<Arena, Set<String>> queue = new HashMap<>();
+    private final Map<String, Arena> playerQueues = new HashMap<>();
 
     /**
      * Creates a new QueueManager.
@@ -47,37 +51,21 @@ public class UQueueManager implements QueueManager {
 
     @Override
     public boolean isPlayerInQueue(String playerName) {
-        for (Entry<Arena, List<String>> arena : queue.entrySet()) {
-            for (String player : arena.getValue()) {
-                if (playerName.equals(player)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return playerQueues.containsKey(playerName);
     }
 
     @Override
     public boolean isPlayerInQueue(String playerName, Arena arena) {
-        if (queue.containsKey(arena)) {
-            for (String player : queue.get(arena)) {
-                if (playerName.equals(player)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return arena.equals(playerQueues.get(playerName));
     }
 
     @Override
     public List<String> getNextPlayers(int amount, Arena arena) {
         List<String> nextPlayers = new ArrayList<>();
         if (queue.containsKey(arena)) {
-            List<String> arenaQueue = queue.get(arena);
-            for (int i = 0; i < amount; i++) {
-                if (arenaQueue.size() > i) {
-                    nextPlayers.add(arenaQueue.get(i));
-                }
+            Iterator<String> arenaQueue = queue.get(arena).iterator();
+            while (nextPlayers.size() < amount && arenaQueue.hasNext()) {
+                nextPlayers.add(arenaQueue.next());
             }
         }
         return nextPlayers;
@@ -87,13 +75,16 @@ public class UQueueManager implements QueueManager {
     public void addPlayerToQueue(Player player, Arena arena) {
         String playerName = player.getName();
         removePlayerFromQueues(player);
-        if (queue.containsKey(arena)) {
-            queue.get(arena).add(playerName);
-        } else {
-            List<String> players = new ArrayList<>();
-            players.add(playerName);
-            queue.put(arena, players);
+        Set<String> arenaQueue = queue.get(arena);
+        if (arenaQueue == null) {
+            arenaQueue = new LinkedHashSet<>();
+            queue.put(arena, arenaQueue);
         }
+        arenaQueue.add(playerName);
+        playerQueues.put(playerName, arena);
+        ultimateGames.getArenaStatePublisher().markDirty(arena);
+        ultimateGames.getMetricsManager().queueLengthChanged(arena, arenaQueue.size());
+        ultimateGames.getMetricsManager().joinRequested(playerName);
         sendJoinMessage(player, arena);
         arena.getGame().getGamePlugin().onPlayerJoinQueue(player, arena);
     }
@@ -101,21 +92,28 @@ public class UQueueManager implements QueueManager {
     @Override
     public void removePlayerFromQueues(Player player) {
         String playerName = player.getName();
-        Map<Arena, List<String>> copy = new HashMap<>(queue);
-        for (Entry<Arena, List<String>> entry : queue.entrySet()) {
-            Arena arena = entry.getKey();
-            for (String queuePlayer : new ArrayList<>(entry.getValue())) {
-                if (playerName.equals(queuePlayer)) {
-                    copy.get(arena).remove(queuePlayer);
-                    sendLeaveMessage(player, arena);
-                    if (copy.get(arena).isEmpty()) {
-                        copy.remove(arena);
-                    }
-                }
+        Arena arena = playerQueues.remove(playerName);
+        if (arena != null) {
+            Set<String> arenaQueue = queue.get(arena);
+            arenaQueue.remove(playerName);
+            if (arenaQueue.isEmpty()) {
+                queue.remove(arena);
             }
+            ultimateGames.getArenaStatePublisher().markDirty(arena);
+            ultimateGames.getMetricsManager().queueLengthChanged(arena, arenaQueue.size());
+            sendLeaveMessage(player, arena);
         }
-        queue.clear();
-        queue.putAll(copy);
+    }
+
+    /**
+     * Gets the amount of players in the queue of an arena.
+     *
+     * @param arena The arena.
+     * @return The queue length.
+     */
+    public int getQueueLength(Arena arena) {
+        Set<String> arenaQueue = queue.get(arena);
+        return arenaQueue == null ? 0 : arenaQueue.size();
     }
 
     /**
@@ -127,7 +125,7 @@ public class UQueueManager implements QueueManager {
     public void sendJoinMessage(Player player, Arena arena) {
         Integer queuePosition = queue.get(arena).size();
         String position = queuePosition.toString() + UGUtils.getOrdinalSuffix(queuePosition);
-        Integer gamePosition = (int) Math.ceil((double) queue.get(arena).size() / arena.getMaxPlayers());
+        Integer gamePosition = (int) Math.ceil((double) queuePosition / arena.getMaxPlayers());
         ultimateGames.getMessenger().sendMessage(player, UGMessage.QUEUE_JOIN, arena.getName(), arena.getGame().getName(), position, gamePosition == 1 ? "next game" : gamePosition + " games from now");
     }
 
@@ -143,11 +141,14 @@ public class UQueueManager implements QueueManager {
 
     @Override
     public void clearArenaQueue(Arena arena) {
-        if (queue.containsKey(arena)) {
-            for (String playerName : queue.get(arena)) {
+        Set<String> arenaQueue = queue.remove(arena);
+        if (arenaQueue != null) {
+            for (String playerName : arenaQueue) {
+                playerQueues.remove(playerName);
                 sendLeaveMessage(Bukkit.getPlayerExact(playerName), arena);
             }
-            queue.remove(arena);
+            ultimateGames.getArenaStatePublisher().markDirty(arena);
+            ultimateGames.getMetricsManager().queueLengthChanged(arena, 0);
         }
     }
 
@@ -155,11 +156,14 @@ public class UQueueManager implements QueueManager {
      * Clears all queues.
      */
     public void clearAllQueues() {
-        for (Entry<Arena, List<String>> entry : queue.entrySet()) {
+        for (Entry<Arena, Set<String>> entry : queue.entrySet()) {
             for (String playerName : entry.getValue()) {
                 sendLeaveMessage(Bukkit.getPlayerExact(playerName), entry.getKey());
             }
+            ultimateGames.getArenaStatePublisher().markDirty(entry.getKey());
+            ultimateGames.getMetricsManager().queueLengthChanged(entry.getKey(), 0);
         }
         queue.clear();
+        playerQueues.clear();
     }
 }
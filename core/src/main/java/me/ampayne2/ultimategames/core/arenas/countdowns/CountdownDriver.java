@@ -0,0 +1,163 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.arenas.countdowns;
+
+import me.ampayne2.ultimategames.api.arenas.countdowns.Countdown;
+import me.ampayne2.ultimategames.api.arenas.countdowns.CountdownScheduler;
+import me.ampayne2.ultimategames.core.UG;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Runs all countdowns from a single repeating task using a hashed timing wheel.<br>
+ * Each countdown first runs on the next tick and then keeps its own phase, so starting a countdown never delays it.
+ * The task only runs while there are active countdowns.
+ */
+public class CountdownDriver implements CountdownScheduler, Runnable {
+    private final UG ultimateGames;
+    @SuppressWarnings("unchecked")
+    private final List<Entry>[] wheel = new List[WHEEL_SIZE];
+    private final Map<Countdown, Entry> entries = new IdentityHashMap<>();
+    private long currentTick;
+    private long lastTickNanos;
+    private BukkitTask task;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    /**
+     * Creates a new CountdownDriver.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     */
+    public CountdownDriver(UG ultimateGames) {
+        this.ultimateGames = ultimateGames;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+    }
+
+    @Override
+    public boolean schedule(Countdown countdown) {
+        if (entries.containsKey(countdown)) {
+            return false;
+        }
+        long period = Math.max(1, countdown.getPeriod());
+        Entry entry = new Entry(countdown, period);
+        entries.put(countdown, entry);
+        insert(entry, currentTick + 1);
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(ultimateGames, this, 1, 1);
+        }
+        return true;
+    }
+
+    @Override
+    public void cancel(Countdown countdown) {
+        Entry entry = entries.remove(countdown);
+        if (entry != null) {
+            entry.cancelled = true;
+        }
+    }
+
+    /**
+     * Gets the amount of active countdowns.
+     *
+     * @return The amount of active countdowns.
+     */
+    public int getActiveCountdowns() {
+        return entries.size();
+    }
+
+    /**
+     * Gets how long the last tick of the driver took.
+     *
+     * @return The duration of the last tick in nanoseconds.
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        currentTick++;
+        int slot = (int) (currentTick & WHEEL_MASK);
+        List<Entry> due = wheel[slot];
+        wheel[slot] = new ArrayList<>();
+        for (Entry entry : due) {
+            if (entry.cancelled) {
+                continue;
+            }
+            if (entry.dueTick != currentTick) {
+                wheel[slot].add(entry);
+                continue;
+            }
+            try {
+                entry.countdown.run();
+                ultimateGames.getArenaStatePublisher().markDirty(entry.countdown.getArena());
+            } catch (Exception e) {
+                ultimateGames.getMessenger().log(Level.SEVERE, "An error occurred in running a " + entry.countdown.getClass().getSimpleName());
+                ultimateGames.getMessenger().debug(e);
+            }
+            if (!entry.cancelled) {
+                insert(entry, currentTick + entry.period);
+            }
+        }
+        if (entries.isEmpty()) {
+            task.cancel();
+            task = null;
+            for (List<Entry> slotEntries : wheel) {
+                slotEntries.clear();
+            }
+        }
+        lastTickNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Inserts an entry into the wheel.
+     *
+     * @param entry   The entry.
+     * @param dueTick The tick the entry's countdown should run at next.
+     */
+    private void insert(Entry entry, long dueTick) {
+        entry.dueTick = dueTick;
+        wheel[(int) (dueTick & WHEEL_MASK)].add(entry);
+    }
+
+    /**
+     * A countdown scheduled in the wheel.
+     */
+    private static final class Entry {
+        private final Countdown countdown;
+        private final long period;
+        private long dueTick;
+        private boolean cancelled;
+
+        private Entry(Countdown countdown, long period) {
+            this.countdown = countdown;
+            this.period = period;
+        }
+    }
+}
@@ -32,6 +32,7 @@ public class UCountdownManager implements CountdownManager {
     private final UG ultimateGames;
     private Map<Arena, StartingCountdown> starting = new HashMap<>();
     private Map<Arena, EndingCountdown> ending = new HashMap<>();
+    private final CountdownDriver countdownDriver;
 
     /**
      * Creates a new Countdown Manager.
@@ -40,6 +41,16 @@ public class UCountdownManager implements CountdownManager {
      */
     public UCountdownManager(UG ultimateGames) {
         this.ultimateGames = ultimateGames;
+        countdownDriver = new CountdownDriver(ultimateGames);
+    }
+
+    /**
+     * Gets the {@link me.ampayne2.ultimategames.core.arenas.countdowns.CountdownDriver} that runs the countdowns.
+     *
+     * @return The {@link me.ampayne2.ultimategames.core.arenas.countdowns.CountdownDriver}.
+     */
+    public CountdownDriver getCountdownDriver() {
+        return countdownDriver;
     }
 
     @Override
@@ -71,8 +82,11 @@ public class UCountdownManager implements CountdownManager {
     public void createStartingCountdown(Arena arena, Integer seconds) {
         if (arena.getGame().getGamePlugin().isStartPossible(arena) && !starting.containsKey(arena)) {
             StartingCountdown countdown = new StartingCountdown(ultimateGames, arena, seconds);
+            countdown.setScheduler(countdownDriver);
             countdown.start();
             starting.put(arena, countdown);
+            ultimateGames.getArenaEventStream().countdownStarted(arena, "starting", seconds);
+            ultimateGames.getMetricsManager().countdownStarted("starting");
             ultimateGames.getMessenger().debug("Created starting countdown for arena " + arena.getName() + " of game " + arena.getGame().getName());
         }
     }
@@ -81,6 +95,7 @@ public class UCountdownManager implements CountdownManager {
         if (starting.containsKey(arena)) {
             starting.get(arena).stop();
             starting.remove(arena);
+            ultimateGames.getMetricsManager().countdownStopped("starting");
             if (cancelled) {
                 ((UArena) arena).setStatus(ArenaStatus.OPEN);
             }
@@ -97,8 +112,11 @@ public class UCountdownManager implements CountdownManager {
     public void createEndingCountdown(Arena arena, Integer seconds, Boolean expDisplay) {
         if (!ending.containsKey(arena)) {
             EndingCountdown countdown = new EndingCountdown(ultimateGames, arena, seconds, expDisplay);
+            countdown.setScheduler(countdownDriver);
             countdown.start();
             ending.put(arena, countdown);
+            ultimateGames.getArenaEventStream().countdownStarted(arena, "ending", seconds);
+            ultimateGames.getMetricsManager().countdownStarted("ending");
             ultimateGames.getMessenger().debug("Created ending countdown for arena " + arena.getName() + " of game " + arena.getGame().getName());
         }
     }
@@ -108,6 +126,7 @@ public class UCountdownManager implements CountdownManager {
         if (ending.containsKey(arena)) {
             ending.get(arena).stop();
             ending.remove(arena);
+            ultimateGames.getMetricsManager().countdownStopped("ending");
             ultimateGames.getMessenger().debug("Stopped ending countdown for arena " + arena.getName() + " of game " + arena.getGame().getName());
         }
     }
@@ -0,0 +1,274 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.arenas.grid;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.arenas.grid.PlayerFilter;
+import me.ampayne2.ultimategames.api.arenas.grid.PlayerGrid;
+import me.ampayne2.ultimategames.core.UG;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A grid of 16x16 block columns holding the positions of an arena's players.<br>
+ * The grid is rebuilt lazily by the first query of each tick.
+ */
+public class UPlayerGrid implements PlayerGrid {
+    private final UG ultimateGames;
+    private final Arena arena;
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private long refreshTick = -1;
+    private int population;
+    private int minCellX;
+    private int maxCellX;
+    private int minCellZ;
+    private int maxCellZ;
+    private static final int CELL_SHIFT = 4;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    /**
+     * Creates a new PlayerGrid.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param arena         The arena of the grid.
+     */
+    public UPlayerGrid(UG ultimateGames, Arena arena) {
+        this.ultimateGames = ultimateGames;
+        this.arena = arena;
+    }
+
+    @Override
+    public Player getNearestPlayer(Location location, PlayerFilter filter) {
+        List<Player> nearest = getNearestPlayers(location, 1, filter);
+        return nearest.isEmpty() ? null : nearest.get(0);
+    }
+
+    @Override
+    public List<Player> getNearestPlayers(Location location, int amount, PlayerFilter filter) {
+        refresh();
+        if (amount <= 0 || cells.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Match> found = new ArrayList<>(amount + 1);
+        World world = location.getWorld();
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+        int cellX = location.getBlockX() >> CELL_SHIFT;
+        int cellZ = location.getBlockZ() >> CELL_SHIFT;
+        int maxRing = Math.max(Math.max(cellX - minCellX, maxCellX - cellX), Math.max(cellZ - minCellZ, maxCellZ - cellZ));
+        int seen = 0;
+        int walked = 0;
+        // Stop once every player has been checked, even if none of them matched the filter
+        for (int ring = 0; ring <= maxRing && seen < population; ring++) {
+            // Every player in this ring or further out is at least (ring - 1) cells away
+            if (found.size() >= amount) {
+                double bound = (ring - 1) * CELL_SIZE;
+                if (bound * bound > found.get(found.size() - 1).distance) {
+                    break;
+                }
+            }
+            if (walked > cells.size()) {
+                // More cells were walked than are occupied, so checking the occupied cells left is cheaper than walking to them
+                for (Map.Entry<Long, List<Entry>> cell : cells.entrySet()) {
+                    long key = cell.getKey();
+                    if (Math.max(Math.abs((int) (key >> 32) - cellX), Math.abs((int) key - cellZ)) >= ring) {
+                        offer(found, cell.getValue(), world, x, y, z, amount, filter);
+                    }
+                }
+                break;
+            }
+            for (int dx = -ring; dx <= ring; dx++) {
+                // Only the edge of the ring, the inside was walked by the previous rings
+                int step = Math.abs(dx) == ring ? 1 : 2 * ring;
+                for (int dz = -ring; dz <= ring; dz += step) {
+                    walked++;
+                    List<Entry> cell = cells.get(toKey(cellX + dx, cellZ + dz));
+                    if (cell != null) {
+                        seen += cell.size();
+                        offer(found, cell, world, x, y, z, amount, filter);
+                    }
+                }
+            }
+        }
+        List<Player> players = new ArrayList<>(found.size());
+        for (Match match : found) {
+            players.add(match.player);
+        }
+        return players;
+    }
+
+    /**
+     * Adds the players of a cell that match the filter to the nearest players found so far.
+     *
+     * @param found  The nearest players found so far, sorted by distance.
+     * @param cell   The cell.
+     * @param world  The world of the query location.
+     * @param x      The x coordinate of the query location.
+     * @param y      The y coordinate of the query location.
+     * @param z      The z coordinate of the query location.
+     * @param amount The amount of players to find.
+     * @param filter The filter.
+     */
+    private static void offer(List<Match> found, List<Entry> cell, World world, double x, double y, double z, int amount, PlayerFilter filter) {
+        for (Entry entry : cell) {
+            if (entry.world != world || !filter.accept(entry.player)) {
+                continue;
+            }
+            double distance = entry.distanceSquared(x, y, z);
+            if (found.size() < amount || distance < found.get(found.size() - 1).distance) {
+                insertSorted(found, new Match(entry.player, distance), amount);
+            }
+        }
+    }
+
+    @Override
+    public List<Player> getPlayersInRadius(Location location, double radius, PlayerFilter filter) {
+        refresh();
+        List<Player> players = new ArrayList<>();
+        World world = location.getWorld();
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+        double radiusSquared = radius * radius;
+        int fromCellX = (int) Math.floor(x - radius) >> CELL_SHIFT;
+        int toCellX = (int) Math.floor(x + radius) >> CELL_SHIFT;
+        int fromCellZ = (int) Math.floor(z - radius) >> CELL_SHIFT;
+        int toCellZ = (int) Math.floor(z + radius) >> CELL_SHIFT;
+        for (int cellX = Math.max(fromCellX, minCellX); cellX <= Math.min(toCellX, maxCellX); cellX++) {
+            for (int cellZ = Math.max(fromCellZ, minCellZ); cellZ <= Math.min(toCellZ, maxCellZ); cellZ++) {
+                List<Entry> cell = cells.get(toKey(cellX, cellZ));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell) {
+                    if (entry.world == world && entry.distanceSquared(x, y, z) <= radiusSquared && filter.accept(entry.player)) {
+                        players.add(entry.player);
+                    }
+                }
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Rebuilds the grid if it hasn't been rebuilt yet this tick.
+     */
+    private void refresh() {
+        long currentTick = ultimateGames.getCurrentTick();
+        if (refreshTick == currentTick) {
+            return;
+        }
+        refreshTick = currentTick;
+        cells.clear();
+        population = 0;
+        minCellX = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE;
+        minCellZ = Integer.MAX_VALUE;
+        maxCellZ = Integer.MIN_VALUE;
+        for (String playerName : arena.getPlayers()) {
+            Player player = Bukkit.getPlayerExact(playerName);
+            if (player == null) {
+                continue;
+            }
+            Location location = player.getLocation();
+            int cellX = location.getBlockX() >> CELL_SHIFT;
+            int cellZ = location.getBlockZ() >> CELL_SHIFT;
+            long key = toKey(cellX, cellZ);
+            List<Entry> cell = cells.get(key);
+            if (cell == null) {
+                cell = new ArrayList<>();
+                cells.put(key, cell);
+            }
+            cell.add(new Entry(player, location));
+            population++;
+            minCellX = Math.min(minCellX, cellX);
+            maxCellX = Math.max(maxCellX, cellX);
+            minCellZ = Math.min(minCellZ, cellZ);
+            maxCellZ = Math.max(maxCellZ, cellZ);
+        }
+    }
+
+    private static void insertSorted(List<Match> found, Match match, int amount) {
+        int index = Collections.binarySearch(found, match, DISTANCE_ORDER);
+        found.add(index < 0 ? -index - 1 : index, match);
+        if (found.size() > amount) {
+            found.remove(found.size() - 1);
+        }
+    }
+
+    private static long toKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static final Comparator<Match> DISTANCE_ORDER = new Comparator<Match>() {
+        @Override
+        public int compare(Match match1, Match match2) {
+            return Double.compare(match1.distance, match2.distance);
+        }
+    };
+
+    /**
+     * A player's position in the grid.
+     */
+    private static final class Entry {
+        private final Player player;
+        private final World world;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Entry(Player player, Location location) {
+            this.player = player;
+            this.world = location.getWorld();
+            this.x = location.getX();
+            this.y = location.getY();
+            this.z = location.getZ();
+        }
+
+        private double distanceSquared(double x, double y, double z) {
+            double dx = this.x - x;
+            double dy = this.y - y;
+            double dz = this.z - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * A player found by a nearest players query and its squared distance to the query location.
+     */
+    private static final class Match {
+        private final Player player;
+        private final double distance;
+
+        private Match(Player player, double distance) {
+            this.player = player;
+            this.distance = distance;
+        }
+    }
+}
@@ -22,10 +22,9 @@ import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.arenas.spawnpoints.PlayerSpawnPoint;
 import me.ampayne2.ultimategames.api.arenas.spawnpoints.SpawnpointManager;
 import me.ampayne2.ultimategames.api.arenas.spawnpoints.SpectatorSpawnPoint;
-import me.ampayne2.ultimategames.api.config.ConfigType;
 import me.ampayne2.ultimategames.core.UG;
 import org.bukkit.Location;
-import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.*;
 
@@ -33,6 +32,7 @@ public class USpawnpointManager implements SpawnpointManager {
     private final UG ultimateGames;
     private Map<Arena, List<PlayerSpawnPoint>> playerSpawnPoints = new HashMap<>();
     private Map<Arena, SpectatorSpawnPoint> spectatorSpawnPoints = new HashMap<>();
+    private final Map<String, PlayerSpawnPoint> lockedSpawnPoints = new HashMap<>();
 
     /**
      * Creates a new Spawnpoint Manager.
@@ -63,6 +63,15 @@ public class USpawnpointManager implements SpawnpointManager {
         }
     }
 
+    /**
+     * Adds a spectator spawnpoint to the manager.
+     *
+     * @param spawnPoint The spectator spawnpoint.
+     */
+    public void addSpectatorSpawnPoint(SpectatorSpawnPoint spawnPoint) {
+        spectatorSpawnPoints.put(spawnPoint.getArena(), spawnPoint);
+    }
+
     /**
      * Creates a new Spectator spawnpoint and adds it to the manager and config.
      *
@@ -76,9 +85,8 @@ public class USpawnpointManager implements SpawnpointManager {
         newSpawnPoint.add(String.valueOf(location.getZ()));
         newSpawnPoint.add(String.valueOf(location.getPitch()));
         newSpawnPoint.add(String.valueOf(location.getYaw()));
-        FileConfiguration arenaConfig = ultimateGames.getConfigManager().getConfig(ConfigType.ARENA);
-        String path = "Arenas." + arena.getGame().getName() + "." + arena.getName() + ".SpectatorSpawnpoint";
-        arenaConfig.set(path, newSpawnPoint);
+        arena.getSection().set("SpectatorSpawnpoint", newSpawnPoint);
+        ultimateGames.getConfigManager().getArenaConfigAccessor(arena).saveConfig();
         spectatorSpawnPoints.put(arena, new SpectatorSpawnPoint(arena, location));
     }
 
@@ -99,8 +107,8 @@ public class USpawnpointManager implements SpawnpointManager {
         newSpawnPoint.add(String.valueOf(location.getPitch()));
         newSpawnPoint.add(String.valueOf(location.getYaw()));
         newSpawnPoint.add(String.valueOf(locked));
-        FileConfiguration arenaConfig = ultimateGames.getConfigManager().getConfig(ConfigType.ARENA);
-        String path = "Arenas." + arena.getGame().getName() + "." + arena.getName() + ".SpawnPoints";
+        ConfigurationSection arenaConfig = arena.getSection();
+        String path = "SpawnPoints";
         if (arenaConfig.contains(path)) {
             @SuppressWarnings("unchecked") List<List<String>> arenaSpawnPoints = (ArrayList<List<String>>) arenaConfig.getList(path);
             arenaSpawnPoints.add(newSpawnPoint);
@@ -110,7 +118,7 @@ public class USpawnpointManager implements SpawnpointManager {
             arenaSpawnPoints.add(newSpawnPoint);
             arenaConfig.set(path, arenaSpawnPoints);
         }
-        ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA).saveConfig();
+        ultimateGames.getConfigManager().getArenaConfigAccessor(arena).saveConfig();
         PlayerSpawnPoint spawnPoint = new PlayerSpawnPoint(ultimateGames, arena, location, locked);
         addSpawnPoint(spawnPoint);
         return spawnPoint;
@@ -124,6 +132,43 @@ public class USpawnpointManager implements SpawnpointManager {
         return null;
     }
 
+    /**
+     * Gets the spawnpoint of an arena a player is locked in.
+     *
+     * @param arena      The arena.
+     * @param playerName The name of the player.
+     * @return The spawnpoint, or null if the player isn't locked in a spawnpoint of the arena.
+     */
+    public PlayerSpawnPoint getLockedSpawnPoint(Arena arena, String playerName) {
+        PlayerSpawnPoint spawnPoint = lockedSpawnPoints.get(playerName);
+        if (spawnPoint != null && spawnPoint.getArena().equals(arena) && spawnPoint.locked() && playerName.equals(spawnPoint.getPlayer())) {
+            return spawnPoint;
+        }
+        return null;
+    }
+
+    @Override
+    public void updateLockedPlayer(PlayerSpawnPoint spawnPoint, String previousPlayerName) {
+        if (previousPlayerName != null && lockedSpawnPoints.get(previousPlayerName) == spawnPoint) {
+            lockedSpawnPoints.remove(previousPlayerName);
+        }
+        if (spawnPoint.locked() && spawnPoint.getPlayer() != null) {
+            lockedSpawnPoints.put(spawnPoint.getPlayer(), spawnPoint);
+        }
+    }
+
+    /**
+     * Releases the player locked in a spawnpoint that is being removed.
+     *
+     * @param spawnPoint The spawnpoint.
+     */
+    private void releaseLockedPlayer(PlayerSpawnPoint spawnPoint) {
+        String playerName = spawnPoint.getPlayer();
+        if (playerName != null && lockedSpawnPoints.get(playerName) == spawnPoint) {
+            lockedSpawnPoints.remove(playerName);
+        }
+    }
+
     @Override
     public SpectatorSpawnPoint getSpectatorSpawnPoint(Arena arena) {
         if (spectatorSpawnPoints.containsKey(arena)) {
@@ -195,7 +240,9 @@ public class USpawnpointManager implements SpawnpointManager {
      */
     public void removeSpawnPoint(Arena arena, int index) {
         if (playerSpawnPoints.containsKey(arena) && playerSpawnPoints.get(arena).size() >= index) {
-            playerSpawnPoints.get(arena).remove(playerSpawnPoints.get(arena).get(index));
+            PlayerSpawnPoint spawnPoint = playerSpawnPoints.get(arena).get(index);
+            releaseLockedPlayer(spawnPoint);
+            playerSpawnPoints.get(arena).remove(spawnPoint);
             // TODO: Remove spawnpoint from arena config.
         }
     }
@@ -214,6 +261,9 @@ public class USpawnpointManager implements SpawnpointManager {
                     remove.add(playerSpawnPoints.get(arena).get(index));
                 }
             }
+            for (PlayerSpawnPoint spawnPoint : remove) {
+                releaseLockedPlayer(spawnPoint);
+            }
             playerSpawnPoints.get(arena).removeAll(remove);
             // TODO: Remove spawnpoints from arena config.
         }
@@ -226,7 +276,9 @@ public class USpawnpointManager implements SpawnpointManager {
      */
     public void removeAllSpawnPoints(Arena arena) {
         if (playerSpawnPoints.containsKey(arena)) {
-            playerSpawnPoints.remove(arena);
+            for (PlayerSpawnPoint spawnPoint : playerSpawnPoints.remove(arena)) {
+                releaseLockedPlayer(spawnPoint);
+            }
             // TODO: Remove spawnpoints from arena config.
         }
     }
@@ -22,7 +22,6 @@ import me.ampayne2.ultimategames.api.UltimateGames;
 import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.arenas.zones.RadiusType;
 import me.ampayne2.ultimategames.api.arenas.zones.Zone;
-import me.ampayne2.ultimategames.api.config.ConfigType;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 
@@ -110,7 +109,7 @@ public class UZone implements Zone {
             this.radiusSquared = radius * radius;
 
             getSection().set("Radius", radius);
-            ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA).saveConfig();
+            ultimateGames.getConfigManager().getArenaConfigAccessor(arena).saveConfig();
         }
     }
 
@@ -125,7 +124,7 @@ public class UZone implements Zone {
             this.radiusType = radiusType;
 
             getSection().set("RadiusType", radiusType.toString());
-            ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA).saveConfig();
+            ultimateGames.getConfigManager().getArenaConfigAccessor(arena).saveConfig();
         }
     }
 
@@ -168,6 +167,6 @@ public class UZone implements Zone {
         location.add(center.getYaw());
         section.set("Center", location);
 
-        ultimateGames.getConfigManager().getConfigAccessor(ConfigType.ARENA).saveConfig();
+        ultimateGames.getConfigManager().getArenaConfigAccessor(arena).saveConfig();
     }
 }
@@ -40,11 +40,21 @@ public class UZoneManager implements ZoneManager {
     }
 
     /**
-     * Adds a zone to the Zone Manager.
+     * Adds a zone to the Zone Manager and saves it.
      *
      * @param zone The zone to add.
      */
     public void addZone(UZone zone) {
+        loadZone(zone);
+        zone.save();
+    }
+
+    /**
+     * Adds a zone that was loaded from storage to the Zone Manager without saving it.
+     *
+     * @param zone The zone to add.
+     */
+    public void loadZone(UZone zone) {
         if (zones.containsKey(zone.getArena())) {
             zones.get(zone.getArena()).put(zone.getName(), zone);
         } else {
@@ -52,7 +62,6 @@ public class UZoneManager implements ZoneManager {
             arenaZones.put(zone.getName(), zone);
             zones.put(zone.getArena(), arenaZones);
         }
-        zone.save();
     }
 
     @Override
@@ -0,0 +1,137 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.config;
+
+import me.ampayne2.ultimategames.core.UG;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Coalesces config saves and writes them to disk in the background.<br>
+ * Saving a config only marks it dirty. Once per interval the dirty configs are serialized on the main thread
+ * and the snapshots are written to a temporary file and renamed over the old file by a background writer.
+ */
+public class ConfigWriter implements Runnable {
+    private final UG ultimateGames;
+    private final Set<UConfigAccessor> dirty = new LinkedHashSet<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final BukkitTask task;
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final long SHUTDOWN_TIMEOUT = 10;
+
+    /**
+     * Creates a new ConfigWriter.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param interval      The minimum amount of ticks between two writes of the same config.
+     */
+    public ConfigWriter(UG ultimateGames, long interval) {
+        this.ultimateGames = ultimateGames;
+        task = Bukkit.getScheduler().runTaskTimer(ultimateGames, this, interval, interval);
+    }
+
+    /**
+     * Marks a config as changed so that it is written in the next write.
+     *
+     * @param configAccessor The {@link me.ampayne2.ultimategames.core.config.UConfigAccessor} of the config.
+     */
+    public void markDirty(UConfigAccessor configAccessor) {
+        dirty.add(configAccessor);
+    }
+
+    @Override
+    public void run() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        for (UConfigAccessor configAccessor : dirty) {
+            final File file = configAccessor.getFile();
+            final String data = configAccessor.getConfig().saveToString();
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    write(file, data);
+                }
+            });
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Stops the background writer and synchronously writes every config that is still dirty.
+     */
+    public void flush() {
+        task.cancel();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<UConfigAccessor> configAccessors = new ArrayList<>(dirty);
+        dirty.clear();
+        for (UConfigAccessor configAccessor : configAccessors) {
+            write(configAccessor.getFile(), configAccessor.getConfig().saveToString());
+        }
+    }
+
+    /**
+     * Writes data to a temporary file and renames it over the target file.
+     *
+     * @param file The target file.
+     * @param data The data.
+     */
+    private void write(File file, String data) {
+        File tempFile = new File(file.getParentFile(), file.getName() + TEMP_EXTENSION);
+        try {
+            if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+                throw new IOException("Could not create " + file.getParentFile());
+            }
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8)) {
+                writer.write(data);
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            ultimateGames.getMessenger().log(Level.SEVERE, "Could not save config to " + file);
+            ultimateGames.getMessenger().debug(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.config;
+
+import me.ampayne2.ultimategames.api.config.ConfigAccessor;
+import me.ampayne2.ultimategames.core.UG;
+
+import java.io.File;
+
+/**
+ * A ConfigAccessor used to access the config of a single arena.
+ */
+public class UArenaConfigAccessor extends UConfigAccessor {
+    private final String gameName;
+    private final String arenaName;
+    public static final String EXTENSION = ".yml";
+    public static final String ARENA_FOLDER = "Arenas";
+
+    /**
+     * Creates a new ArenaConfigAccessor.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param gameName      The name of the arena's game.
+     * @param arenaName     The name of the arena.
+     */
+    public UArenaConfigAccessor(UG ultimateGames, String gameName, String arenaName) {
+        super(ultimateGames, arenaName + EXTENSION, new File(new File(ultimateGames.getDataFolder(), ARENA_FOLDER), gameName));
+        this.gameName = gameName;
+        this.arenaName = arenaName;
+    }
+
+    /**
+     * Gets the name of the arena's game.
+     *
+     * @return The name of the game.
+     */
+    public String getGameName() {
+        return gameName;
+    }
+
+    /**
+     * Gets the name of the arena.
+     *
+     * @return The name of the arena.
+     */
+    public String getArenaName() {
+        return arenaName;
+    }
+
+    @Override
+    public ConfigAccessor saveDefaultConfig() {
+        return this;
+    }
+}
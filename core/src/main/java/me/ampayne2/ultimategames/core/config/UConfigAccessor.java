@@ -34,6 +34,7 @@ public class UConfigAccessor implements ConfigAccessor {
     private final ConfigType configType;
     private final File configFile;
     private FileConfiguration fileConfiguration;
+    private ConfigWriter configWriter;
 
     /**
      * Creates a new ConfigAccessor.
@@ -86,9 +87,41 @@ public class UConfigAccessor implements ConfigAccessor {
         return fileConfiguration;
     }
 
+    /**
+     * Checks if the configuration has been loaded from disk.
+     *
+     * @return True if the configuration has been loaded, else false.
+     */
+    public boolean isLoaded() {
+        return fileConfiguration != null;
+    }
+
+    /**
+     * Gets the configuration file.
+     *
+     * @return The configuration file.
+     */
+    public File getFile() {
+        return configFile;
+    }
+
+    /**
+     * Sets the {@link me.ampayne2.ultimategames.core.config.ConfigWriter} used to save the config in the background.<br>
+     * If null, the config is written to disk whenever it is saved.
+     *
+     * @param configWriter The {@link me.ampayne2.ultimategames.core.config.ConfigWriter}.
+     * @return This {@link me.ampayne2.ultimategames.core.config.UConfigAccessor}
+     */
+    public UConfigAccessor setConfigWriter(ConfigWriter configWriter) {
+        this.configWriter = configWriter;
+        return this;
+    }
+
     @Override
     public ConfigAccessor saveConfig() {
-        if (fileConfiguration != null) {
+        if (fileConfiguration != null && configWriter != null) {
+            configWriter.markDirty(this);
+        } else if (fileConfiguration != null) {
             try {
                 getConfig().save(configFile);
             } catch (IOException e) {
@@ -18,6 +18,7 @@
  */
 package me.ampayne2.ultimategames.core.config;
 
+import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.config.ConfigAccessor;
 import me.ampayne2.ultimategames.api.config.ConfigManager;
 import me.ampayne2.ultimategames.api.config.ConfigType;
@@ -26,6 +27,7 @@ import me.ampayne2.ultimategames.core.UG;
 import org.bukkit.configuration.file.FileConfiguration;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -36,6 +38,8 @@ public class UConfigManager implements ConfigManager {
     private final UG ultimateGames;
     private final Map<ConfigType, ConfigAccessor> configs = new HashMap<>();
     private final Map<Game, UGameConfigAccessor> gameConfigs = new HashMap<>();
+    private final Map<String, UArenaConfigAccessor> arenaConfigs = new HashMap<>();
+    private ConfigWriter configWriter;
 
     /**
      * Creates a new ConfigManager.
@@ -47,8 +51,30 @@ public class UConfigManager implements ConfigManager {
         File dataFolder = ultimateGames.getDataFolder();
 
         ultimateGames.saveDefaultConfig();
+        if (ultimateGames.getConfig().getBoolean("WriteBehindSaves", true)) {
+            configWriter = new ConfigWriter(ultimateGames, ultimateGames.getConfig().getLong("WriteBehindInterval", 100));
+        }
         for (ConfigType configType : ConfigType.class.getEnumConstants()) {
-            addConfigAccessor(new UConfigAccessor(ultimateGames, configType, dataFolder).saveDefaultConfig());
+            addConfigAccessor(new UConfigAccessor(ultimateGames, configType, dataFolder).setConfigWriter(configWriter).saveDefaultConfig());
+        }
+    }
+
+    /**
+     * Synchronously writes all configs with unwritten changes to disk and stops the background writer.
+     */
+    public void flush() {
+        if (configWriter != null) {
+            configWriter.flush();
+            configWriter = null;
+            for (ConfigAccessor configAccessor : configs.values()) {
+                ((UConfigAccessor) configAccessor).setConfigWriter(null);
+            }
+            for (UGameConfigAccessor gameConfigAccessor : gameConfigs.values()) {
+                gameConfigAccessor.setConfigWriter(null);
+            }
+            for (UArenaConfigAccessor arenaConfigAccessor : arenaConfigs.values()) {
+                arenaConfigAccessor.setConfigWriter(null);
+            }
         }
     }
 
@@ -79,6 +105,7 @@ public class UConfigManager implements ConfigManager {
     public void addGameConfig(Game game) {
         if (!gameConfigs.containsKey(game)) {
             UGameConfigAccessor config = new UGameConfigAccessor(ultimateGames, game.getName());
+            config.setConfigWriter(configWriter);
             config.saveConfig();
             gameConfigs.put(game, config);
         }
@@ -96,4 +123,41 @@ public class UConfigManager implements ConfigManager {
     public FileConfiguration getGameConfig(Game game) {
         return getGameConfigAccessor(game).getConfig();
     }
+
+    /**
+     * Gets the ConfigAccessor of an arena's file, creating it if it doesn't exist yet.
+     *
+     * @param gameName  The name of the arena's game.
+     * @param arenaName The name of the arena.
+     * @return The arena's ConfigAccessor.
+     */
+    public UArenaConfigAccessor getArenaConfigAccessor(String gameName, String arenaName) {
+        String key = gameName + "/" + arenaName;
+        UArenaConfigAccessor config = arenaConfigs.get(key);
+        if (config == null) {
+            config = new UArenaConfigAccessor(ultimateGames, gameName, arenaName);
+            config.setConfigWriter(configWriter);
+            arenaConfigs.put(key, config);
+        }
+        return config;
+    }
+
+    /**
+     * Gets the ConfigAccessors of all arena files that have been accessed.
+     *
+     * @return The arena ConfigAccessors.
+     */
+    public Collection<UArenaConfigAccessor> getArenaConfigAccessors() {
+        return arenaConfigs.values();
+    }
+
+    @Override
+    public UArenaConfigAccessor getArenaConfigAccessor(Arena arena) {
+        return getArenaConfigAccessor(arena.getGame().getName(), arena.getName());
+    }
+
+    @Override
+    public FileConfiguration getArenaConfig(Arena arena) {
+        return getArenaConfigAccessor(arena).getConfig();
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.games;
+
+import me.ampayne2.ultimategames.api.games.PlayerType;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.InvalidDescriptionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * The validated gameplugin.yml of a game jar, read off the main thread before the game is registered.
+ */
+final class GameDescriptor {
+    private final File file;
+    private final String name;
+    private final String mainClass;
+    private final String description;
+    private final String version;
+    private final String author;
+    private final PlayerType playerType;
+    private final List<String> depend;
+    private final List<String> instructionPages;
+    private final int classCount;
+    private final long readNanos;
+
+    private GameDescriptor(File file, YamlConfiguration gamePlugin, int classCount, long readNanos) {
+        this.file = file;
+        this.name = file.getName().replace(".jar", "");
+        this.mainClass = gamePlugin.getString("main-class");
+        this.description = gamePlugin.getString("description");
+        this.version = gamePlugin.getString("version");
+        this.author = gamePlugin.getString("author");
+        this.playerType = PlayerType.valueOf(gamePlugin.getString("playerType").toUpperCase());
+        this.depend = Collections.unmodifiableList(gamePlugin.contains("depend") ? gamePlugin.getStringList("depend") : new ArrayList<String>());
+        this.instructionPages = Collections.unmodifiableList(gamePlugin.getStringList("Instructions"));
+        this.classCount = classCount;
+        this.readNanos = readNanos;
+    }
+
+    /**
+     * Reads and validates the descriptor of a game jar.<br>
+     * The jar's gameplugin.yml is extracted next to the jar first if it wasn't already, so that it can be edited.
+     * The jar's entries are scanned once to count its classes and make sure it contains its main class.
+     *
+     * @param file       The game jar.
+     * @param configFile The extracted gameplugin.yml of the game.
+     * @return The descriptor.
+     * @throws IOException                 If the jar or its gameplugin.yml can't be read.
+     * @throws InvalidDescriptionException If the gameplugin.yml is invalid.
+     */
+    static GameDescriptor read(File file, File configFile) throws IOException, InvalidDescriptionException {
+        long start = System.nanoTime();
+        try (JarFile jarFile = new JarFile(file)) {
+            if (!configFile.exists()) {
+                JarEntry entry = jarFile.getJarEntry("gameplugin.yml");
+                if (entry == null) {
+                    throw new InvalidDescriptionException("Game " + file.getAbsolutePath() + " does not contain a gameplugin.yml file!");
+                }
+                try (InputStream input = jarFile.getInputStream(entry)) {
+                    Files.copy(input, configFile.toPath());
+                }
+            }
+
+            YamlConfiguration gamePlugin = YamlConfiguration.loadConfiguration(configFile);
+
+            //Is the configuration a valid one?
+            if (!gamePlugin.contains("main-class") || !gamePlugin.contains("description") || !gamePlugin.contains("version") || !gamePlugin.contains("author") || !gamePlugin.contains("playerType")) {
+                throw new InvalidDescriptionException("Game " + file.getAbsolutePath() + " contains an invalid gameplugin.yml file!");
+            }
+            try {
+                PlayerType.valueOf(gamePlugin.getString("playerType").toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidDescriptionException("Game " + file.getAbsolutePath() + " has an invalid playerType " + gamePlugin.getString("playerType") + "!");
+            }
+
+            String mainClassEntry = gamePlugin.getString("main-class").replace('.', '/') + ".class";
+            boolean containsMainClass = false;
+            int classCount = 0;
+            for (JarEntry entry : Collections.list(jarFile.entries())) {
+                if (entry.getName().endsWith(".class")) {
+                    classCount++;
+                    if (entry.getName().equals(mainClassEntry)) {
+                        containsMainClass = true;
+                    }
+                }
+            }
+            if (!containsMainClass) {
+                throw new InvalidDescriptionException("Game " + file.getAbsolutePath() + " does not contain its main class " + gamePlugin.getString("main-class") + "!");
+            }
+            return new GameDescriptor(file, gamePlugin, classCount, System.nanoTime() - start);
+        }
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getMainClass() {
+        return mainClass;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    String getAuthor() {
+        return author;
+    }
+
+    PlayerType getPlayerType() {
+        return playerType;
+    }
+
+    List<String> getDepend() {
+        return depend;
+    }
+
+    List<String> getInstructionPages() {
+        return instructionPages;
+    }
+
+    int getClassCount() {
+        return classCount;
+    }
+
+    long getReadNanos() {
+        return readNanos;
+    }
+}
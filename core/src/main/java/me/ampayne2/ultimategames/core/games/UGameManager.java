@@ -21,20 +21,27 @@ package me.ampayne2.ultimategames.core.games;
 import me.ampayne2.ultimategames.api.games.Game;
 import me.ampayne2.ultimategames.api.games.GameManager;
 import me.ampayne2.ultimategames.api.games.GamePlugin;
-import me.ampayne2.ultimategames.api.games.PlayerType;
 import me.ampayne2.ultimategames.api.message.Messenger;
 import me.ampayne2.ultimategames.core.UG;
-import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.InvalidDescriptionException;
 import org.bukkit.plugin.PluginManager;
 
-import java.io.*;
+import java.io.File;
+import java.io.FileFilter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.jar.JarFile;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
-import java.util.zip.ZipFile;
 
 /**
  * Manages all of the ultimate games games.
@@ -42,120 +49,188 @@ import java.util.zip.ZipFile;
 public class UGameManager implements GameManager {
     private final UG ultimateGames;
     private Set<Game> games = new HashSet<>();
-    private static final int BUFFER_SIZE = 1024;
 
     /**
-     * Creates a new GameManager.
+     * Creates a new GameManager.<br>
+     * The descriptors of the game jars are read and validated in parallel first. The games are then registered on the
+     * main thread, after the games they depend on.
      *
      * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
      */
-    @SuppressWarnings("unchecked")
     public UGameManager(UG ultimateGames) {
         this.ultimateGames = ultimateGames;
         File gameFolder = new File(ultimateGames.getDataFolder(), "Games");
         if (!gameFolder.exists() && !gameFolder.mkdirs()) {
             return;
         }
-        JarFile jarFile = null;
-        PlayerType playerType;
-        String name, description, author, version;
-        List<String> instructionPages;
+        File[] files = gameFolder.listFiles(new GameFileFilter());
+        if (files == null || files.length == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<GameDescriptor> descriptors = readDescriptors(gameFolder, files);
+
         Messenger messenger = ultimateGames.getMessenger();
         GameClassLoader pluginClassLoader = new GameClassLoader(ultimateGames.getClass().getClassLoader());
-        PluginManager pluginManager = ultimateGames.getServer().getPluginManager();
-        for (File file : gameFolder.listFiles(new GameFileFilter())) {
+        for (GameDescriptor descriptor : descriptors) {
             try {
-                jarFile = new JarFile(file);
-
-                //We load the basic game Plugin configuration
-                File configFile = new File(ultimateGames.getDataFolder() + "/Games", file.getName().replace(".jar", ".yml"));
-                if (!configFile.exists()) {
-                    ZipFile zip = new ZipFile(file);
-                    byte[] buffer = new byte[BUFFER_SIZE];
-
-                    FileOutputStream output = new FileOutputStream(configFile);
-                    InputStream input = zip.getInputStream(zip.getEntry("gameplugin.yml"));
-
-                    int realLength;
+                pluginClassLoader.addURL(descriptor.getFile().toURI().toURL());
+            } catch (Exception e) {
+                messenger.log(Level.WARNING, "An error occurred whilst loading the game " + descriptor.getFile().getName() + ".");
+                messenger.debug(e);
+            }
+        }
+        Map<String, GameDescriptor> gameNames = new HashMap<>();
+        for (GameDescriptor descriptor : descriptors) {
+            gameNames.put(descriptor.getName().toLowerCase(), descriptor);
+        }
+        int loaded = 0;
+        for (GameDescriptor descriptor : sortByDependencies(descriptors, gameNames)) {
+            if (loadGame(descriptor, gameNames, pluginClassLoader)) {
+                loaded++;
+            }
+        }
+        messenger.log(Level.INFO, "Loaded " + loaded + " of " + files.length + " games in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
 
-                    while ((realLength = input.read(buffer)) > 0) {
-                        output.write(buffer, 0, realLength);
+    /**
+     * Reads the descriptors of game jars on a worker pool.
+     *
+     * @param gameFolder The folder of the game jars.
+     * @param files      The game jars.
+     * @return The valid descriptors, in the order of the jars.
+     */
+    private List<GameDescriptor> readDescriptors(final File gameFolder, File[] files) {
+        Messenger messenger = ultimateGames.getMessenger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(files.length, Runtime.getRuntime().availableProcessors()), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "UltimateGames Game Loader");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        List<GameDescriptor> descriptors = new ArrayList<>(files.length);
+        try {
+            List<Future<GameDescriptor>> futures = new ArrayList<>(files.length);
+            for (final File file : files) {
+                futures.add(executor.submit(new Callable<GameDescriptor>() {
+                    @Override
+                    public GameDescriptor call() throws Exception {
+                        return GameDescriptor.read(file, new File(gameFolder, file.getName().replace(".jar", ".yml")));
+                    }
+                }));
+            }
+            for (int i = 0; i < files.length; i++) {
+                try {
+                    descriptors.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof InvalidDescriptionException) {
+                        messenger.log(Level.SEVERE, e.getCause().getMessage());
+                    } else {
+                        messenger.log(Level.WARNING, "An error occurred whilst loading the game " + files[i].getName() + ".");
+                        messenger.debug(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
                     }
-
-                    output.flush();
-                    output.close();
-                    zip.close();
                 }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            messenger.log(Level.SEVERE, "Interrupted whilst loading games.");
+        } finally {
+            executor.shutdownNow();
+        }
+        return descriptors;
+    }
 
-                YamlConfiguration gamePlugin = YamlConfiguration.loadConfiguration(configFile);
+    /**
+     * Orders game descriptors so that every game comes after the games it depends on.
+     *
+     * @param descriptors The descriptors.
+     * @param gameNames   The descriptors by lowercase game name.
+     * @return The ordered descriptors.
+     */
+    private List<GameDescriptor> sortByDependencies(List<GameDescriptor> descriptors, Map<String, GameDescriptor> gameNames) {
+        List<GameDescriptor> ordered = new ArrayList<>(descriptors.size());
+        Set<GameDescriptor> visited = new HashSet<>();
+        for (GameDescriptor descriptor : descriptors) {
+            visit(descriptor, gameNames, new HashSet<GameDescriptor>(), visited, ordered);
+        }
+        return ordered;
+    }
 
-                //Is the configuration a valid one?
-                if (!gamePlugin.contains("main-class") || !gamePlugin.contains("description") || !gamePlugin.contains("version") || !gamePlugin.contains("author") || !gamePlugin.contains("playerType")) {
-                    messenger.log(Level.SEVERE, "Game " + file.getAbsolutePath() + " contains an invalid gameplugin.yml file!");
-                    jarFile.close();
-                    continue;
+    private void visit(GameDescriptor descriptor, Map<String, GameDescriptor> gameNames, Set<GameDescriptor> visiting, Set<GameDescriptor> visited, List<GameDescriptor> ordered) {
+        if (visited.contains(descriptor)) {
+            return;
+        }
+        visiting.add(descriptor);
+        for (String dependency : descriptor.getDepend()) {
+            GameDescriptor dependencyDescriptor = gameNames.get(dependency.toLowerCase());
+            if (dependencyDescriptor != null) {
+                if (visiting.contains(dependencyDescriptor)) {
+                    ultimateGames.getMessenger().log(Level.SEVERE, descriptor.getName() + " has a circular dependency on " + dependencyDescriptor.getName());
+                } else {
+                    visit(dependencyDescriptor, gameNames, visiting, visited, ordered);
                 }
+            }
+        }
+        visiting.remove(descriptor);
+        visited.add(descriptor);
+        ordered.add(descriptor);
+    }
 
-                name = file.getName().replace(".jar", "");
-                description = gamePlugin.getString("description");
-                version = gamePlugin.getString("version");
-                author = gamePlugin.getString("author");
-                playerType = PlayerType.valueOf(gamePlugin.getString("playerType").toUpperCase());
-                instructionPages = gamePlugin.getStringList("Instructions");
-                List<String> depend = gamePlugin.contains("depend") ? gamePlugin.getStringList("depend") : new ArrayList<String>();
-
-                //We try to load the main class..
-                pluginClassLoader.addURL(file.toURI().toURL());
-                Class<?> aclass = pluginClassLoader.loadClass(gamePlugin.getString("main-class"));
-
-                Object object = aclass.newInstance();
-
-                //Is the class a valid game plugin?
-                if (object instanceof GamePlugin) {
-                    messenger.log(Level.INFO, "Loading game " + name);
-                    GamePlugin plugin = (GamePlugin) object;
-
-                    Game game = new UGame(plugin, name, description, version, author, depend, playerType, instructionPages);
+    /**
+     * Instantiates and registers the game of a descriptor.
+     *
+     * @param descriptor        The descriptor.
+     * @param gameNames         The descriptors of all games by lowercase game name.
+     * @param pluginClassLoader The class loader of the games.
+     * @return True if the game was loaded, else false.
+     */
+    private boolean loadGame(GameDescriptor descriptor, Map<String, GameDescriptor> gameNames, GameClassLoader pluginClassLoader) {
+        long start = System.nanoTime();
+        String name = descriptor.getName();
+        Messenger messenger = ultimateGames.getMessenger();
+        PluginManager pluginManager = ultimateGames.getServer().getPluginManager();
+        try {
+            //We try to load the main class..
+            Object object = pluginClassLoader.loadClass(descriptor.getMainClass()).newInstance();
 
-                    // Does the game already exist?
-                    if (gameExists(game)) {
-                        messenger.log(Level.SEVERE, "The game " + name + " already exists!");
-                        jarFile.close();
-                        continue;
-                    }
+            //Is the class a valid game plugin?
+            if (!(object instanceof GamePlugin)) {
+                messenger.log(Level.SEVERE, name + " has an invalid main class!");
+                return false;
+            }
+            GamePlugin plugin = (GamePlugin) object;
+            Game game = new UGame(plugin, name, descriptor.getDescription(), descriptor.getVersion(), descriptor.getAuthor(), descriptor.getDepend(), descriptor.getPlayerType(), descriptor.getInstructionPages());
 
-                    // Check if dependencies are loaded
-                    List<String> dependenciesNotLoaded = new ArrayList<>();
-                    for (String dependency : game.getDepend()) {
-                        if (!pluginManager.isPluginEnabled(dependency)) {
-                            dependenciesNotLoaded.add(dependency);
-                        }
-                    }
+            // Does the game already exist?
+            if (gameExists(game)) {
+                messenger.log(Level.SEVERE, "The game " + name + " already exists!");
+                return false;
+            }
 
-                    //We load the game
-                    if (!dependenciesNotLoaded.isEmpty()) {
-                        for (String dependency : dependenciesNotLoaded) {
-                            messenger.log(Level.SEVERE, name + " is missing the dependency " + dependency);
-                        }
-                    } else if (plugin.loadGame(ultimateGames, game)) {
-                        addGame(game);
-                        pluginManager.registerEvents(plugin, ultimateGames);
-                    }
-                } else {
-                    messenger.log(Level.SEVERE, name + " has an invalid main class!");
-                }
-            } catch (Exception e) {
-                messenger.log(Level.WARNING, "An error occurred whilst loading the game " + file.getName() + ".");
-                messenger.debug(e);
-                if (jarFile != null) {
-                    try {
-                        jarFile.close();
-                    } catch (IOException e1) {
-                        messenger.debug(e1);
-                    }
+            // Check if dependencies are loaded, games before plugins
+            boolean dependenciesLoaded = true;
+            for (String dependency : game.getDepend()) {
+                if (gameNames.containsKey(dependency.toLowerCase()) ? !gameExists(dependency) : !pluginManager.isPluginEnabled(dependency)) {
+                    messenger.log(Level.SEVERE, name + " is missing the dependency " + dependency);
+                    dependenciesLoaded = false;
                 }
             }
+
+            //We load the game
+            if (dependenciesLoaded && plugin.loadGame(ultimateGames, game)) {
+                addGame(game);
+                pluginManager.registerEvents(plugin, ultimateGames);
+                messenger.log(Level.INFO, "Loaded game " + name + " (" + descriptor.getClassCount() + " classes) in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                        + " ms, descriptor read in " + TimeUnit.NANOSECONDS.toMillis(descriptor.getReadNanos()) + " ms");
+                return true;
+            }
+        } catch (Exception e) {
+            messenger.log(Level.WARNING, "An error occurred whilst loading the game " + descriptor.getFile().getName() + ".");
+            messenger.debug(e);
         }
+        return false;
     }
 
     @Override
@@ -204,6 +279,7 @@ public class UGameManager implements GameManager {
                 ultimateGames.getMessenger().loadGameMessages(game, game.getMessages());
             }
             ultimateGames.getMetricsManager().addGame(game);
+            ultimateGames.getArenaStatePublisher().markDirty();
             ultimateGames.getMessenger().log(Level.INFO, "Added game " + game.getName());
             return true;
         }
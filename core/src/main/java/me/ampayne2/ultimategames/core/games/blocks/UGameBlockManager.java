@@ -30,17 +30,12 @@ import java.util.Set;
 
 public class UGameBlockManager implements GameBlockManager {
     private final Map<Game, Set<GameBlock>> gameBlocks = new HashMap<>();
+    private final Map<Game, GameBlock[]> gameBlockTables = new HashMap<>();
+    private static final int MATERIAL_AMOUNT = Material.values().length;
 
     @Override
     public boolean isRegistered(Game game, Material material) {
-        if (gameBlocks.containsKey(game)) {
-            for (GameBlock gameBlock : gameBlocks.get(game)) {
-                if (gameBlock.getMaterial().equals(material)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return getGameBlock(game, material) != null;
     }
 
     @Override
@@ -50,14 +45,8 @@ public class UGameBlockManager implements GameBlockManager {
 
     @Override
     public GameBlock getGameBlock(Game game, Material material) {
-        if (gameBlocks.containsKey(game)) {
-            for (GameBlock gameItem : gameBlocks.get(game)) {
-                if (gameItem.getMaterial().equals(material)) {
-                    return gameItem;
-                }
-            }
-        }
-        return null;
+        GameBlock[] table = gameBlockTables.get(game);
+        return table == null ? null : table[material.ordinal()];
     }
 
     @Override
@@ -69,10 +58,8 @@ public class UGameBlockManager implements GameBlockManager {
     public UGameBlockManager registerGameBlock(Game game, GameBlock gameBlock) {
         if (gameBlocks.containsKey(game)) {
             Set<GameBlock> blocks = gameBlocks.get(game);
-            for (GameBlock block : blocks) {
-                if (gameBlock.equals(block)) {
-                    return this;
-                }
+            if (blocks.contains(gameBlock)) {
+                return this;
             }
             blocks.add(gameBlock);
         } else {
@@ -80,13 +67,14 @@ public class UGameBlockManager implements GameBlockManager {
             blocks.add(gameBlock);
             gameBlocks.put(game, blocks);
         }
+        buildTable(game);
         return this;
     }
 
     @Override
     public UGameBlockManager unregisterGameBlock(Game game, GameBlock gameBlock) {
-        if (gameBlocks.containsKey(game)) {
-            gameBlocks.get(game).remove(gameBlock);
+        if (gameBlocks.containsKey(game) && gameBlocks.get(game).remove(gameBlock)) {
+            buildTable(game);
         }
         return this;
     }
@@ -94,6 +82,28 @@ public class UGameBlockManager implements GameBlockManager {
     @Override
     public UGameBlockManager unregisterGameBlocks(Game game) {
         gameBlocks.remove(game);
+        gameBlockTables.remove(game);
         return this;
     }
+
+    /**
+     * Rebuilds the table of a game's GameBlocks indexed by material ordinal.
+     *
+     * @param game The game.
+     */
+    private void buildTable(Game game) {
+        Set<GameBlock> blocks = gameBlocks.get(game);
+        if (blocks == null || blocks.isEmpty()) {
+            gameBlockTables.remove(game);
+            return;
+        }
+        GameBlock[] table = new GameBlock[MATERIAL_AMOUNT];
+        for (GameBlock gameBlock : blocks) {
+            int ordinal = gameBlock.getMaterial().ordinal();
+            if (table[ordinal] == null) {
+                table[ordinal] = gameBlock;
+            }
+        }
+        gameBlockTables.put(game, table);
+    }
 }
@@ -21,8 +21,11 @@ package me.ampayne2.ultimategames.core.games.items;
 import me.ampayne2.ultimategames.api.games.Game;
 import me.ampayne2.ultimategames.api.games.items.GameItem;
 import me.ampayne2.ultimategames.api.games.items.GameItemManager;
+import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -30,17 +33,11 @@ import java.util.Set;
 
 public class UGameItemManager implements GameItemManager {
     private final Map<Game, Set<GameItem>> gameItems = new HashMap<>();
+    private final Map<Game, Map<Material, Map<String, GameItem>>> gameItemIndex = new HashMap<>();
 
     @Override
     public boolean isRegistered(Game game, ItemStack item) {
-        if (gameItems.containsKey(game)) {
-            for (GameItem gameItem : gameItems.get(game)) {
-                if (gameItem.getItem().getType().equals(item.getType()) && gameItem.getItem().getItemMeta().getDisplayName().equals(item.getItemMeta().getDisplayName())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return getGameItem(game, item) != null;
     }
 
     @Override
@@ -50,14 +47,12 @@ public class UGameItemManager implements GameItemManager {
 
     @Override
     public GameItem getGameItem(Game game, ItemStack item) {
-        if (gameItems.containsKey(game)) {
-            for (GameItem gameItem : gameItems.get(game)) {
-                if (gameItem.getItem().getType().equals(item.getType()) && gameItem.getItem().getItemMeta().getDisplayName().equals(item.getItemMeta().getDisplayName())) {
-                    return gameItem;
-                }
-            }
+        Map<Material, Map<String, GameItem>> index = gameItemIndex.get(game);
+        if (index == null || !item.hasItemMeta()) {
+            return null;
         }
-        return null;
+        Map<String, GameItem> items = index.get(item.getType());
+        return items == null ? null : items.get(item.getItemMeta().getDisplayName());
     }
 
     @Override
@@ -69,10 +64,8 @@ public class UGameItemManager implements GameItemManager {
     public UGameItemManager registerGameItem(Game game, GameItem gameItem) {
         if (gameItems.containsKey(game)) {
             Set<GameItem> items = gameItems.get(game);
-            for (GameItem item : items) {
-                if (gameItem.equals(item)) {
-                    return this;
-                }
+            if (items.contains(gameItem)) {
+                return this;
             }
             items.add(gameItem);
         } else {
@@ -80,13 +73,18 @@ public class UGameItemManager implements GameItemManager {
             items.add(gameItem);
             gameItems.put(game, items);
         }
+        indexGameItem(game, gameItem);
         return this;
     }
 
     @Override
     public UGameItemManager unregisterGameItem(Game game, GameItem item) {
-        if (gameItems.containsKey(game)) {
-            gameItems.get(game).remove(item);
+        if (gameItems.containsKey(game) && gameItems.get(game).remove(item)) {
+            // Another registered item may share the removed item's material and display name
+            gameItemIndex.remove(game);
+            for (GameItem gameItem : gameItems.get(game)) {
+                indexGameItem(game, gameItem);
+            }
         }
         return this;
     }
@@ -94,6 +92,32 @@ public class UGameItemManager implements GameItemManager {
     @Override
     public UGameItemManager unregisterGameItems(Game game) {
         gameItems.remove(game);
+        gameItemIndex.remove(game);
         return this;
     }
+
+    /**
+     * Adds a GameItem to the (material, display name) index of its game.
+     *
+     * @param game     The game.
+     * @param gameItem The GameItem.
+     */
+    private void indexGameItem(Game game, GameItem gameItem) {
+        Map<Material, Map<String, GameItem>> index = gameItemIndex.get(game);
+        if (index == null) {
+            index = new EnumMap<>(Material.class);
+            gameItemIndex.put(game, index);
+        }
+        ItemStack item = gameItem.getItem();
+        Map<String, GameItem> items = index.get(item.getType());
+        if (items == null) {
+            items = new HashMap<>();
+            index.put(item.getType(), items);
+        }
+        ItemMeta meta = item.getItemMeta();
+        String displayName = meta == null ? null : meta.getDisplayName();
+        if (!items.containsKey(displayName)) {
+            items.put(displayName, gameItem);
+        }
+    }
 }
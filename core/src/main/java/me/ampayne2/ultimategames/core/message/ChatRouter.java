@@ -0,0 +1,168 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.message;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.message.UGMessage;
+import me.ampayne2.ultimategames.api.players.teams.Team;
+import me.ampayne2.ultimategames.core.UG;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Routes arena and team chat on the chat threads.<br>
+ * Whenever arena or team membership changes, an immutable snapshot of who each arena player chats to is rebuilt on
+ * the main thread at the next tick and published for the chat threads to read.
+ */
+public class ChatRouter implements Runnable {
+    private final UG ultimateGames;
+    private final boolean enabled;
+    private volatile Map<String, ChatRoute> routes = Collections.emptyMap();
+    private BukkitTask task;
+
+    /**
+     * Creates a new ChatRouter.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param enabled       If chat should be routed by the ChatRouter.
+     */
+    public ChatRouter(UG ultimateGames, boolean enabled) {
+        this.ultimateGames = ultimateGames;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks if chat is routed by the ChatRouter.
+     *
+     * @return True if chat is routed by the ChatRouter, else false.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks the arena or team membership as changed so that the snapshot is rebuilt on the next tick.<br>
+     * Must be called from the main thread.
+     */
+    public void markDirty() {
+        if (enabled && task == null) {
+            task = Bukkit.getScheduler().runTask(ultimateGames, this);
+        }
+    }
+
+    @Override
+    public void run() {
+        task = null;
+        Map<String, ChatRoute> newRoutes = new HashMap<>();
+        Map<Team, Set<String>> teamAudiences = new HashMap<>();
+        MessageTemplate chat = ultimateGames.getMessenger().getTemplate(UGMessage.CHAT);
+        for (Arena arena : ultimateGames.getArenaManager().getArenas()) {
+            if (arena.getPlayers().isEmpty()) {
+                continue;
+            }
+            Set<String> arenaAudience = new HashSet<>(arena.getPlayers());
+            arenaAudience.addAll(arena.getSpectators());
+            for (String playerName : arena.getPlayers()) {
+                Team team = ultimateGames.getTeamManager().getPlayerTeam(playerName);
+                Set<String> audience;
+                ChatColor nameColor;
+                if (team != null) {
+                    audience = teamAudiences.get(team);
+                    if (audience == null) {
+                        audience = new HashSet<>(team.getPlayers());
+                        teamAudiences.put(team, audience);
+                    }
+                    nameColor = team.getColor();
+                } else {
+                    audience = arenaAudience;
+                    nameColor = ChatColor.WHITE;
+                }
+                String format = chat.toFormatString(nameColor + playerName.replace("%", "%%"), "%2$s");
+                newRoutes.put(playerName, new ChatRoute(audience, format));
+            }
+        }
+        routes = newRoutes;
+    }
+
+    /**
+     * Routes a chat message of an arena player by narrowing the event's recipients to the player's arena or team.<br>
+     * Players without a route in the snapshot aren't in an arena and their messages are left alone. If the event
+     * can't be changed, it is cancelled and the message is sent on the main thread instead.<br>
+     * Safe to call from the chat threads, never reads the managers.
+     *
+     * @param event The {@link org.bukkit.event.player.AsyncPlayerChatEvent} event.
+     */
+    public void route(AsyncPlayerChatEvent event) {
+        ChatRoute route = routes.get(event.getPlayer().getName());
+        if (route == null) {
+            return;
+        }
+        if (route.format != null) {
+            try {
+                Iterator<Player> recipients = event.getRecipients().iterator();
+                while (recipients.hasNext()) {
+                    if (!route.audience.contains(recipients.next().getName())) {
+                        recipients.remove();
+                    }
+                }
+                event.setFormat(route.format);
+                return;
+            } catch (UnsupportedOperationException ignored) {
+            }
+        }
+        event.setCancelled(true);
+        final String playerName = event.getPlayer().getName();
+        final String message = event.getMessage();
+        final String publicMessage = String.format(event.getFormat(), event.getPlayer().getDisplayName(), message);
+        Bukkit.getScheduler().runTask(ultimateGames, new Runnable() {
+            @Override
+            public void run() {
+                if (ultimateGames.getMessenger().sendPlayerChatMessage(playerName, message)) {
+                    ultimateGames.getMessenger().getLogger().info("<" + playerName + "> " + message);
+                } else {
+                    // The player left their arena before the message was sent
+                    Bukkit.broadcastMessage(publicMessage);
+                }
+            }
+        });
+    }
+
+    /**
+     * The players an arena player's chat messages are sent to, and the format they are sent with.
+     */
+    private static final class ChatRoute {
+        private final Set<String> audience;
+        private final String format;
+
+        private ChatRoute(Set<String> audience, String format) {
+            this.audience = audience;
+            this.format = format;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+
+/**
+ * A message pattern parsed into literal segments separated by %s arguments.<br>
+ * Patterns using any other format specifier than %s, %% or %n are rendered with {@link String#format(String, Object...)}.
+ */
+public class MessageTemplate {
+    private final String pattern;
+    private final String[] literals;
+    private final int literalLength;
+
+    /**
+     * Parses a message pattern into a MessageTemplate.
+     *
+     * @param pattern The message pattern.
+     */
+    public MessageTemplate(String pattern) {
+        this.pattern = pattern;
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        boolean simple = true;
+        for (int i = 0; i < pattern.length() && simple; i++) {
+            char c = pattern.charAt(i);
+            if (c != '%') {
+                segment.append(c);
+            } else if (i + 1 < pattern.length()) {
+                switch (pattern.charAt(++i)) {
+                    case 's':
+                        segments.add(segment.toString());
+                        segment.setLength(0);
+                        break;
+                    case '%':
+                        segment.append('%');
+                        break;
+                    case 'n':
+                        segment.append(System.lineSeparator());
+                        break;
+                    default:
+                        simple = false;
+                }
+            } else {
+                simple = false;
+            }
+        }
+        if (simple) {
+            segments.add(segment.toString());
+            literals = segments.toArray(new String[segments.size()]);
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            literalLength = length;
+        } else {
+            literals = null;
+            literalLength = 0;
+        }
+    }
+
+    /**
+     * Gets the pattern the template was parsed from.
+     *
+     * @return The pattern.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Renders the template with arguments.
+     *
+     * @param arguments The arguments.
+     * @return The rendered message.
+     */
+    public String render(String... arguments) {
+        if (literals == null) {
+            return String.format(pattern, (Object[]) arguments);
+        }
+        if (literals.length == 1) {
+            return literals[0];
+        }
+        if (arguments.length < literals.length - 1) {
+            throw new MissingFormatArgumentException("%s");
+        }
+        StringBuilder builder = new StringBuilder(literalLength + 16 * arguments.length);
+        builder.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            builder.append(arguments[i - 1]).append(literals[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Renders the template into a {@link String#format(String, Object...)} pattern.<br>
+     * The literal segments are escaped, the arguments are inserted as they are.
+     *
+     * @param arguments The arguments.
+     * @return The format pattern, or null if the template uses other format specifiers than %s, %% or %n.
+     */
+    public String toFormatString(String... arguments) {
+        if (literals == null) {
+            return null;
+        }
+        if (arguments.length < literals.length - 1) {
+            throw new MissingFormatArgumentException("%s");
+        }
+        StringBuilder builder = new StringBuilder(literalLength + 16 * arguments.length);
+        builder.append(literals[0].replace("%", "%%"));
+        for (int i = 1; i < literals.length; i++) {
+            builder.append(arguments[i - 1]).append(literals[i].replace("%", "%%"));
+        }
+        return builder.toString();
+    }
+}
@@ -34,6 +34,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,6 +44,16 @@ public class UMessenger implements Messenger {
     private final Logger log;
     private Map<String, Map<String, String>> gameMessages = new HashMap<>();
     private Map<Class<?>, RecipientHandler> recipientHandlers = new HashMap<>();
+    private final Map<Class<?>, RecipientHandler> resolvedHandlers = new ConcurrentHashMap<>();
+    private final Map<Message, MessageTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<Game, String> gamePrefixes = new ConcurrentHashMap<>();
+    private volatile String gamePrefixPattern;
+    private final ChatRouter chatRouter;
+    private static final RecipientHandler NO_HANDLER = new RecipientHandler() {
+        @Override
+        public void sendMessage(Object recipient, String message) {
+        }
+    };
 
     /**
      * Creates a new message manager.
@@ -53,9 +64,19 @@ public class UMessenger implements Messenger {
         this.ultimateGames = ultimateGames;
         debug = ultimateGames.getConfig().getBoolean("debug", false);
         log = ultimateGames.getLogger();
+        chatRouter = new ChatRouter(ultimateGames, ultimateGames.getConfig().getBoolean("AsyncChatRouting", true));
         loadMessages();
     }
 
+    /**
+     * Gets the {@link me.ampayne2.ultimategames.core.message.ChatRouter}.
+     *
+     * @return The {@link me.ampayne2.ultimategames.core.message.ChatRouter}.
+     */
+    public ChatRouter getChatRouter() {
+        return chatRouter;
+    }
+
     /**
      * Loads the ultimate games messages.
      */
@@ -68,6 +89,7 @@ public class UMessenger implements Messenger {
         ultimateGames.getConfigManager().getConfigAccessor(ConfigType.MESSAGE).saveConfig();
         for (Message message : UGMessage.class.getEnumConstants()) {
             message.setMessage(ChatColor.translateAlternateColorCodes('&', messageConfig.getString(message.getPath())));
+            templates.put(message, new MessageTemplate(message.getMessage()));
         }
     }
 
@@ -86,18 +108,57 @@ public class UMessenger implements Messenger {
         ultimateGames.getConfigManager().getGameConfigAccessor(game).saveConfig();
         for (Message message : (Message[]) messages.getEnumConstants()) {
             message.setMessage(ChatColor.translateAlternateColorCodes('&', gameConfig.getString("Messages." + message.getPath())));
+            templates.put(message, new MessageTemplate(message.getMessage()));
         }
     }
 
     @Override
     public Messenger registerRecipient(Class recipientClass, RecipientHandler recipientHandler) {
         recipientHandlers.put(recipientClass, recipientHandler);
+        resolvedHandlers.clear();
         return this;
     }
 
+    /**
+     * Gets the template of a message, parsing it again if the message was changed since it was last parsed.
+     *
+     * @param message The message.
+     * @return The template.
+     */
+    public MessageTemplate getTemplate(Message message) {
+        String pattern = message.getMessage();
+        MessageTemplate template = templates.get(message);
+        if (template == null || template.getPattern() != pattern) {
+            template = new MessageTemplate(pattern);
+            templates.put(message, template);
+        }
+        return template;
+    }
+
+    /**
+     * Renders a message with arguments.
+     *
+     * @param message The message.
+     * @param replace The arguments.
+     * @return The rendered message.
+     */
+    public String render(Message message, String... replace) {
+        return replace == null ? message.getMessage() : getTemplate(message).render(replace);
+    }
+
     @Override
     public String getGamePrefix(Game game) {
-        return String.format(UGMessage.GAME_PREFIX.getMessage(), game.getName());
+        String pattern = UGMessage.GAME_PREFIX.getMessage();
+        if (pattern != gamePrefixPattern) {
+            gamePrefixes.clear();
+            gamePrefixPattern = pattern;
+        }
+        String prefix = gamePrefixes.get(game);
+        if (prefix == null) {
+            prefix = render(UGMessage.GAME_PREFIX, game.getName());
+            gamePrefixes.put(game, prefix);
+        }
+        return prefix;
     }
 
     @Override
@@ -105,15 +166,15 @@ public class UMessenger implements Messenger {
         if (ultimateGames.getPlayerManager().isPlayerInArena(playerName)) {
             Object recipient;
             ChatColor nameColor;
-            if (ultimateGames.getTeamManager().isPlayerInTeam(playerName)) {
-                Team team = ultimateGames.getTeamManager().getPlayerTeam(playerName);
+            Team team = ultimateGames.getTeamManager().getPlayerTeam(playerName);
+            if (team != null) {
                 recipient = team;
                 nameColor = team.getColor();
             } else {
                 recipient = ultimateGames.getPlayerManager().getPlayerArena(playerName);
                 nameColor = ChatColor.WHITE;
             }
-            return sendRawMessage(recipient, String.format(UGMessage.CHAT.getMessage(), nameColor + playerName, message));
+            return sendRawMessage(recipient, render(UGMessage.CHAT, nameColor + playerName, message));
         } else {
             return false;
         }
@@ -121,27 +182,47 @@ public class UMessenger implements Messenger {
 
     @Override
     public boolean sendMessage(Object recipient, Message message, String... replace) {
-        return sendRawMessage(recipient, UGMessage.PREFIX + (replace == null ? message.getMessage() : String.format(message.getMessage(), (Object[]) replace)));
+        return sendRawMessage(recipient, UGMessage.PREFIX + render(message, replace));
     }
 
     @Override
     public boolean sendGameMessage(Object recipient, Game game, Message message, String... replace) {
-        return sendRawMessage(recipient, getGamePrefix(game) + (replace == null ? message.getMessage() : String.format(message.getMessage(), (Object[]) replace)));
+        return sendRawMessage(recipient, getGamePrefix(game) + render(message, replace));
     }
 
     @Override
     public boolean sendRawMessage(Object recipient, String message) {
         if (recipient != null && message != null) {
-            for (Class<?> recipientClass : recipientHandlers.keySet()) {
-                if (recipientClass.isAssignableFrom(recipient.getClass())) {
-                    recipientHandlers.get(recipientClass).sendMessage(recipient, message);
-                    return true;
-                }
+            RecipientHandler recipientHandler = getRecipientHandler(recipient.getClass());
+            if (recipientHandler != NO_HANDLER) {
+                recipientHandler.sendMessage(recipient, message);
+                return true;
             }
         }
         return false;
     }
 
+    /**
+     * Gets the handler of a recipient class, resolving it from the registered handlers the first time the class is seen.
+     *
+     * @param recipientClass The class of the recipient.
+     * @return The recipient handler, or NO_HANDLER if no handler can handle the class.
+     */
+    private RecipientHandler getRecipientHandler(Class<?> recipientClass) {
+        RecipientHandler recipientHandler = resolvedHandlers.get(recipientClass);
+        if (recipientHandler == null) {
+            recipientHandler = NO_HANDLER;
+            for (Map.Entry<Class<?>, RecipientHandler> entry : recipientHandlers.entrySet()) {
+                if (entry.getKey().isAssignableFrom(recipientClass)) {
+                    recipientHandler = entry.getValue();
+                    break;
+                }
+            }
+            resolvedHandlers.put(recipientClass, recipientHandler);
+        }
+        return recipientHandler;
+    }
+
     @Override
     public void log(Level level, String... messages) {
         for (String message : messages) {
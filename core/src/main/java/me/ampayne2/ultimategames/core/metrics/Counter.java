@@ -0,0 +1,77 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A metric that only goes up.
+ */
+public class Counter extends MetricFamily<Counter.Child> {
+
+    /**
+     * Creates a new Counter.
+     *
+     * @param name       The name of the metric.
+     * @param help       The description of the metric.
+     * @param labelNames The names of the labels of the metric.
+     */
+    public Counter(String name, String help, String... labelNames) {
+        super(name, help, labelNames);
+    }
+
+    @Override
+    protected Child createChild() {
+        return new Child();
+    }
+
+    @Override
+    protected String getType() {
+        return "counter";
+    }
+
+    @Override
+    protected void writeChild(StringBuilder out, List<String> labelValues, Child child) {
+        writeSample(out, "", labelValues, null, null, Long.toString(child.get()));
+    }
+
+    /**
+     * The counter of one combination of label values.
+     */
+    public static class Child {
+        private final AtomicLong value = new AtomicLong();
+
+        /**
+         * Increments the counter by one.
+         */
+        public void inc() {
+            value.incrementAndGet();
+        }
+
+        /**
+         * Gets the value of the counter.
+         *
+         * @return The value.
+         */
+        public long get() {
+            return value.get();
+        }
+    }
+}
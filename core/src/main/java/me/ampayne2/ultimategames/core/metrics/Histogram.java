@@ -0,0 +1,98 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.metrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A metric that counts durations in buckets. Durations are observed in nanoseconds and exposed in seconds.
+ */
+public class Histogram extends MetricFamily<Histogram.Child> {
+    private final long[] bucketNanos;
+    private final String[] bucketLabels;
+
+    /**
+     * Creates a new Histogram.
+     *
+     * @param name          The name of the metric.
+     * @param help          The description of the metric.
+     * @param bucketSeconds The upper bounds of the buckets in seconds, in ascending order.
+     * @param labelNames    The names of the labels of the metric.
+     */
+    public Histogram(String name, String help, double[] bucketSeconds, String... labelNames) {
+        super(name, help, labelNames);
+        bucketNanos = new long[bucketSeconds.length];
+        bucketLabels = new String[bucketSeconds.length];
+        for (int i = 0; i < bucketSeconds.length; i++) {
+            bucketNanos[i] = (long) (bucketSeconds[i] * TimeUnit.SECONDS.toNanos(1));
+            bucketLabels[i] = Double.toString(bucketSeconds[i]);
+        }
+    }
+
+    @Override
+    protected Child createChild() {
+        return new Child();
+    }
+
+    @Override
+    protected String getType() {
+        return "histogram";
+    }
+
+    @Override
+    protected void writeChild(StringBuilder out, List<String> labelValues, Child child) {
+        long cumulative = 0;
+        for (int i = 0; i < bucketNanos.length; i++) {
+            cumulative += child.buckets.get(i);
+            writeSample(out, "_bucket", labelValues, "le", bucketLabels[i], Long.toString(cumulative));
+        }
+        long count = child.count.get();
+        writeSample(out, "_bucket", labelValues, "le", "+Inf", Long.toString(count));
+        writeSample(out, "_sum", labelValues, null, null, Double.toString(child.sumNanos.get() / (double) TimeUnit.SECONDS.toNanos(1)));
+        writeSample(out, "_count", labelValues, null, null, Long.toString(count));
+    }
+
+    /**
+     * The histogram of one combination of label values.
+     */
+    public class Child {
+        private final AtomicLongArray buckets = new AtomicLongArray(bucketNanos.length);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sumNanos = new AtomicLong();
+
+        /**
+         * Observes a duration.
+         *
+         * @param nanos The duration in nanoseconds.
+         */
+        public void observe(long nanos) {
+            for (int i = 0; i < bucketNanos.length; i++) {
+                if (nanos <= bucketNanos[i]) {
+                    buckets.incrementAndGet(i);
+                    break;
+                }
+            }
+            sumNanos.addAndGet(nanos);
+            count.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A named metric with a child per combination of label values.
+ *
+ * @param <T> The type of the children.
+ */
+public abstract class MetricFamily<T> {
+    private final String name;
+    private final String help;
+    private final String[] labelNames;
+    private final ConcurrentMap<List<String>, T> children = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new MetricFamily.
+     *
+     * @param name       The name of the metric.
+     * @param help       The description of the metric.
+     * @param labelNames The names of the labels of the metric.
+     */
+    protected MetricFamily(String name, String help, String... labelNames) {
+        this.name = name;
+        this.help = help;
+        this.labelNames = labelNames;
+    }
+
+    /**
+     * Gets the name of the metric.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the child of the metric with the given label values, creating it if it doesn't exist.
+     *
+     * @param labelValues The label values, in the order of the label names.
+     * @return The child.
+     */
+    public T labels(String... labelValues) {
+        if (labelValues.length != labelNames.length) {
+            throw new IllegalArgumentException("Metric " + name + " takes " + labelNames.length + " labels, got " + labelValues.length);
+        }
+        List<String> key = Arrays.asList(labelValues);
+        T child = children.get(key);
+        if (child == null) {
+            T newChild = createChild();
+            child = children.putIfAbsent(key, newChild);
+            if (child == null) {
+                child = newChild;
+            }
+        }
+        return child;
+    }
+
+    /**
+     * Removes the child of the metric with the given label values.
+     *
+     * @param labelValues The label values, in the order of the label names.
+     */
+    public void remove(String... labelValues) {
+        children.remove(Arrays.asList(labelValues));
+    }
+
+    /**
+     * Writes the metric in the prometheus text format.
+     *
+     * @param out The output.
+     */
+    void write(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(getType()).append('\n');
+        for (Map.Entry<List<String>, T> entry : children.entrySet()) {
+            writeChild(out, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Writes a sample line of the metric.
+     *
+     * @param out         The output.
+     * @param suffix      The suffix of the sample name, or an empty string.
+     * @param labelValues The label values of the sample.
+     * @param extraLabel  The name of an extra label, or null.
+     * @param extraValue  The value of the extra label.
+     * @param value       The sample value.
+     */
+    protected void writeSample(StringBuilder out, String suffix, List<String> labelValues, String extraLabel, String extraValue, String value) {
+        out.append(name).append(suffix);
+        if (labelNames.length > 0 || extraLabel != null) {
+            out.append('{');
+            for (int i = 0; i < labelNames.length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                appendLabel(out, labelNames[i], labelValues.get(i));
+            }
+            if (extraLabel != null) {
+                if (labelNames.length > 0) {
+                    out.append(',');
+                }
+                appendLabel(out, extraLabel, extraValue);
+            }
+            out.append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Appends an escaped label.
+     *
+     * @param out   The output.
+     * @param name  The label name.
+     * @param value The label value.
+     */
+    private static void appendLabel(StringBuilder out, String name, String value) {
+        out.append(name).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Creates a new child of the metric.
+     *
+     * @return The child.
+     */
+    protected abstract T createChild();
+
+    /**
+     * Gets the prometheus type of the metric.
+     *
+     * @return The type.
+     */
+    protected abstract String getType();
+
+    /**
+     * Writes the samples of a child of the metric.
+     *
+     * @param out         The output.
+     * @param labelValues The label values of the child.
+     * @param child       The child.
+     */
+    protected abstract void writeChild(StringBuilder out, List<String> labelValues, T child);
+}
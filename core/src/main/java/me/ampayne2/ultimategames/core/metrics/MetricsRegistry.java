@@ -0,0 +1,59 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A registry of in-process metrics that can be written in the prometheus text format.
+ */
+public class MetricsRegistry {
+    private final List<MetricFamily<?>> metrics = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a metric.
+     *
+     * @param metric The metric.
+     * @param <T>    The type of the metric.
+     * @return The metric.
+     */
+    public <T extends MetricFamily<?>> T register(T metric) {
+        for (MetricFamily<?> registered : metrics) {
+            if (registered.getName().equals(metric.getName())) {
+                throw new IllegalArgumentException("A metric named " + metric.getName() + " is already registered");
+            }
+        }
+        metrics.add(metric);
+        return metric;
+    }
+
+    /**
+     * Writes all registered metrics in the prometheus text format.
+     *
+     * @return The metrics.
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        for (MetricFamily<?> metric : metrics) {
+            metric.write(out);
+        }
+        return out.toString();
+    }
+}
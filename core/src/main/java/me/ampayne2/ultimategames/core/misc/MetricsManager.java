@@ -20,15 +20,25 @@ package me.ampayne2.ultimategames.core.misc;
 
 import me.ampayne2.ultimategames.api.arenas.Arena;
 import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+import me.ampayne2.ultimategames.api.arenas.EndType;
 import me.ampayne2.ultimategames.api.games.Game;
 import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.metrics.Counter;
+import me.ampayne2.ultimategames.core.metrics.Gauge;
+import me.ampayne2.ultimategames.core.metrics.Histogram;
+import me.ampayne2.ultimategames.core.metrics.MetricsRegistry;
 import org.mcstats.Metrics;
 import org.mcstats.Metrics.Graph;
+import org.mcstats.Metrics.Plotter;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Manages the ultimate games metrics and custom graphs.
+ * Manages the ultimate games metrics and custom graphs.<br>
+ * Besides the MCStats graphs, keeps a local {@link me.ampayne2.ultimategames.core.metrics.MetricsRegistry} that is
+ * updated as events happen and exposed by the web API.
  */
 public class MetricsManager {
     private final UG ultimateGames;
@@ -37,6 +47,23 @@ public class MetricsManager {
     private Graph arenasBeingPlayedGraph;
     private Graph totalPlayersInArenasGraph;
     private Graph playersInArenasGraph;
+    private Plotter totalPlayersInArenasPlotter;
+    private final Map<Game, Plotter> gamePlotters = new HashMap<>();
+    private final Map<Arena, Plotter[]> arenaPlotters = new HashMap<>();
+    private final Map<Arena, ArenaStatus> arenaStatuses = new HashMap<>();
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final Counter playerJoins = registry.register(new Counter("ultimategames_player_joins_total", "Players that joined an arena.", "game"));
+    private final Counter playerLeaves = registry.register(new Counter("ultimategames_player_leaves_total", "Players that left an arena.", "game"));
+    private final Counter matchesStarted = registry.register(new Counter("ultimategames_matches_started_total", "Arenas that began a match.", "game"));
+    private final Counter matchesEnded = registry.register(new Counter("ultimategames_matches_ended_total", "Arenas that ended a match.", "game", "end_type"));
+    private final Gauge playersInArenas = registry.register(new Gauge("ultimategames_players_in_arenas", "Players currently in arenas."));
+    private final Gauge arenas = registry.register(new Gauge("ultimategames_arenas", "Arenas by status.", "game", "status"));
+    private final Gauge queueLengths = registry.register(new Gauge("ultimategames_queue_length", "Players waiting in the queue of an arena.", "game", "arena"));
+    private final Gauge countdownsActive = registry.register(new Gauge("ultimategames_countdowns_active", "Countdowns currently running.", "type"));
+    private final Histogram joinLatency = registry.register(new Histogram("ultimategames_join_teleport_seconds",
+            "Time from a join request by sign, command or queue until the player is placed in the arena, including time spent in the queue.",
+            new double[]{0.005, 0.05, 0.25, 1, 5, 15, 30, 60, 120, 300}, "game"));
+    private final Map<String, Long> joinRequests = new HashMap<>();
 
     /**
      * Creates a new MetricManager.
@@ -58,86 +85,202 @@ public class MetricsManager {
         }
     }
 
+    /**
+     * Gets the local metrics registry.
+     *
+     * @return The {@link me.ampayne2.ultimategames.core.metrics.MetricsRegistry}.
+     */
+    public MetricsRegistry getRegistry() {
+        return registry;
+    }
+
     public void addGame(final Game game) {
-        gamesLoadedGraph.addPlotter(new Metrics.Plotter(game.getName()) {
-            @Override
-            public int getValue() {
-                return 1;
-            }
-        });
+        if (gamesLoadedGraph != null && !gamePlotters.containsKey(game)) {
+            Plotter plotter = new Metrics.Plotter(game.getName()) {
+                @Override
+                public int getValue() {
+                    return 1;
+                }
+            };
+            gamesLoadedGraph.addPlotter(plotter);
+            gamePlotters.put(game, plotter);
+        }
     }
 
     public void removeGame(final Game game) {
-        gamesLoadedGraph.removePlotter(new Metrics.Plotter(game.getName()) {
-            @Override
-            public int getValue() {
-                return 1;
-            }
-        });
+        Plotter plotter = gamePlotters.remove(game);
+        if (plotter != null) {
+            gamesLoadedGraph.removePlotter(plotter);
+        }
     }
 
     public void addTotalPlayersGraph() {
-        totalPlayersInArenasGraph = metrics.createGraph("Total Players In Arenas");
-        totalPlayersInArenasGraph.addPlotter(new Metrics.Plotter("Total Players In Arenas") {
-            @Override
-            public int getValue() {
-                Integer playersInArenas = 0;
-                for (Arena arena : ultimateGames.getArenaManager().getArenas()) {
-                    playersInArenas += arena.getPlayers().size();
+        if (metrics != null && totalPlayersInArenasPlotter == null) {
+            totalPlayersInArenasGraph = metrics.createGraph("Total Players In Arenas");
+            totalPlayersInArenasPlotter = new Metrics.Plotter("Total Players In Arenas") {
+                @Override
+                public int getValue() {
+                    return (int) playersInArenas.labels().get();
                 }
-                return playersInArenas;
-            }
-        });
+            };
+            totalPlayersInArenasGraph.addPlotter(totalPlayersInArenasPlotter);
+        }
     }
 
     public void removeTotalPlayersGraph() {
-        totalPlayersInArenasGraph.removePlotter(new Metrics.Plotter("Total Players In Arenas") {
-            @Override
-            public int getValue() {
-                Integer playersInArenas = 0;
-                for (Arena arena : ultimateGames.getArenaManager().getArenas()) {
-                    playersInArenas += arena.getPlayers().size();
-                }
-                return playersInArenas;
-            }
-        });
+        if (totalPlayersInArenasPlotter != null) {
+            totalPlayersInArenasGraph.removePlotter(totalPlayersInArenasPlotter);
+            totalPlayersInArenasPlotter = null;
+        }
     }
 
     public void addArena(final Arena arena) {
-        arenasBeingPlayedGraph.addPlotter(new Metrics.Plotter(arena.getGame().getName() + " : " + arena.getName()) {
-            @Override
-            public int getValue() {
-                if (arena.getStatus() == ArenaStatus.RUNNING) {
-                    return 1;
-                } else {
-                    return 0;
+        if (arenasBeingPlayedGraph != null && !arenaPlotters.containsKey(arena)) {
+            Plotter beingPlayed = new Metrics.Plotter(arena.getGame().getName() + " : " + arena.getName()) {
+                @Override
+                public int getValue() {
+                    if (arena.getStatus() == ArenaStatus.RUNNING) {
+                        return 1;
+                    } else {
+                        return 0;
+                    }
                 }
-            }
-        });
-        playersInArenasGraph.addPlotter(new Metrics.Plotter(arena.getGame().getName() + " : " + arena.getName()) {
-            @Override
-            public int getValue() {
-                return arena.getPlayers().size();
-            }
-        });
+            };
+            Plotter players = new Metrics.Plotter(arena.getGame().getName() + " : " + arena.getName()) {
+                @Override
+                public int getValue() {
+                    return arena.getPlayers().size();
+                }
+            };
+            arenasBeingPlayedGraph.addPlotter(beingPlayed);
+            playersInArenasGraph.addPlotter(players);
+            arenaPlotters.put(arena, new Plotter[]{beingPlayed, players});
+        }
+        if (!arenaStatuses.containsKey(arena)) {
+            arenaStatuses.put(arena, arena.getStatus());
+            arenas.labels(arena.getGame().getName(), arena.getStatus().name()).inc();
+            queueLengths.labels(arena.getGame().getName(), arena.getName()).set(0);
+        }
     }
 
     public void removeArena(final Arena arena) {
-        arenasBeingPlayedGraph.removePlotter(new Metrics.Plotter(arena.getGame().getName() + " : " + arena.getName()) {
-            @Override
-            public int getValue() {
-                if (arena.getStatus() == ArenaStatus.RUNNING) {
-                    return 1;
-                } else {
-                    return 0;
-                }
-            }
-        });
-        playersInArenasGraph.removePlotter(new Metrics.Plotter(arena.getGame().getName() + " : " + arena.getName()) {
-            @Override
-            public int getValue() {
-                return arena.getPlayers().size();
-            }
-        });
+        Plotter[] plotters = arenaPlotters.remove(arena);
+        if (plotters != null) {
+            arenasBeingPlayedGraph.removePlotter(plotters[0]);
+            playersInArenasGraph.removePlotter(plotters[1]);
+        }
+        ArenaStatus status = arenaStatuses.remove(arena);
+        if (status != null) {
+            arenas.labels(arena.getGame().getName(), status.name()).dec();
+            queueLengths.remove(arena.getGame().getName(), arena.getName());
+        }
+    }
+
+    /**
+     * Records the time a player requested to join an arena, replacing any earlier request of the player.
+     *
+     * @param playerName The player's name.
+     */
+    public void joinRequested(String playerName) {
+        joinRequests.put(playerName, System.nanoTime());
+    }
+
+    /**
+     * Forgets a player's join request, for example when the player disconnects.
+     *
+     * @param playerName The player's name.
+     */
+    public void joinRequestCancelled(String playerName) {
+        joinRequests.remove(playerName);
+    }
+
+    /**
+     * Records a player joining an arena and the time since the player's join request.
+     *
+     * @param arena      The arena.
+     * @param playerName The player's name.
+     */
+    public void playerJoined(Arena arena, String playerName) {
+        String gameName = arena.getGame().getName();
+        playerJoins.labels(gameName).inc();
+        playersInArenas.labels().inc();
+        Long requested = joinRequests.remove(playerName);
+        if (requested != null) {
+            joinLatency.labels(gameName).observe(System.nanoTime() - requested);
+        }
+    }
+
+    /**
+     * Records a player leaving an arena.
+     *
+     * @param arena The arena.
+     */
+    public void playerLeft(Arena arena) {
+        playerLeaves.labels(arena.getGame().getName()).inc();
+        playersInArenas.labels().dec();
+    }
+
+    /**
+     * Records a status change of an arena.
+     *
+     * @param arena The arena.
+     */
+    public void arenaStatusChanged(Arena arena) {
+        ArenaStatus previous = arenaStatuses.get(arena);
+        if (previous != null && previous != arena.getStatus()) {
+            String gameName = arena.getGame().getName();
+            arenas.labels(gameName, previous.name()).dec();
+            arenas.labels(gameName, arena.getStatus().name()).inc();
+            arenaStatuses.put(arena, arena.getStatus());
+        }
+    }
+
+    /**
+     * Records an arena beginning a match.
+     *
+     * @param arena The arena.
+     */
+    public void matchStarted(Arena arena) {
+        matchesStarted.labels(arena.getGame().getName()).inc();
+    }
+
+    /**
+     * Records an arena ending a match.
+     *
+     * @param arena   The arena.
+     * @param endType The way the arena ended.
+     */
+    public void matchEnded(Arena arena, EndType endType) {
+        matchesEnded.labels(arena.getGame().getName(), endType.name()).inc();
+    }
+
+    /**
+     * Records the queue length of an arena.
+     *
+     * @param arena  The arena.
+     * @param length The queue length.
+     */
+    public void queueLengthChanged(Arena arena, int length) {
+        if (arenaStatuses.containsKey(arena)) {
+            queueLengths.labels(arena.getGame().getName(), arena.getName()).set(length);
+        }
+    }
+
+    /**
+     * Records a countdown starting.
+     *
+     * @param type The type of the countdown.
+     */
+    public void countdownStarted(String type) {
+        countdownsActive.labels(type).inc();
+    }
+
+    /**
+     * Records a countdown stopping.
+     *
+     * @param type The type of the countdown.
+     */
+    public void countdownStopped(String type) {
+        countdownsActive.labels(type).dec();
     }
 }
@@ -0,0 +1,241 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.players;
+
+import me.ampayne2.ultimategames.core.UG;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * An append-only journal of the players in limbo.<br>
+ * Every change is appended as a single add or remove record, and the journal is compacted down to one add record
+ * per player in limbo when loaded and whenever the amount of records grows too large.
+ */
+public class LimboJournal {
+    private final UG ultimateGames;
+    private final File file;
+    private final Set<String> players = new HashSet<>();
+    private DataOutputStream output;
+    private int records;
+    private boolean readOnly;
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final int COMPACT_THRESHOLD = 512;
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String BACKUP_EXTENSION = ".bak";
+
+    /**
+     * Creates a new LimboJournal, replaying and compacting the journal file if it exists.<br>
+     * A journal that can't be fully read is backed up before it is compacted. If it can't be backed up either, it is
+     * left untouched and changes are only kept in memory until the next start.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param file          The journal file.
+     * @param migrated      Players in limbo to add to the journal, for example from an old limbo list.
+     */
+    public LimboJournal(UG ultimateGames, File file, Collection<String> migrated) {
+        this.ultimateGames = ultimateGames;
+        this.file = file;
+        boolean loaded = load();
+        players.addAll(migrated);
+        if (!loaded && !backup()) {
+            readOnly = true;
+            return;
+        }
+        compact();
+    }
+
+    /**
+     * Checks if a player is in limbo.
+     *
+     * @param playerName The player's name.
+     * @return True if the player is in limbo, else false.
+     */
+    public boolean contains(String playerName) {
+        return players.contains(playerName);
+    }
+
+    /**
+     * Adds a player to limbo.
+     *
+     * @param playerName The player's name.
+     */
+    public void add(String playerName) {
+        if (players.add(playerName)) {
+            append(ADD, playerName);
+        }
+    }
+
+    /**
+     * Removes a player from limbo.
+     *
+     * @param playerName The player's name.
+     * @return True if the player was in limbo, else false.
+     */
+    public boolean remove(String playerName) {
+        if (players.remove(playerName)) {
+            append(REMOVE, playerName);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Compacts and closes the journal.
+     */
+    public void close() {
+        if (!readOnly) {
+            compact();
+        }
+        closeOutput();
+    }
+
+    /**
+     * Replays the journal file. A truncated record at the end of the file, left by a crash mid-write, is ignored.
+     *
+     * @return True if the whole journal was read, else false.
+     */
+    private boolean load() {
+        if (!file.exists()) {
+            return true;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                byte operation = input.readByte();
+                String playerName = input.readUTF();
+                if (operation == ADD) {
+                    players.add(playerName);
+                } else if (operation == REMOVE) {
+                    players.remove(playerName);
+                } else {
+                    ultimateGames.getMessenger().log(Level.WARNING, "Unknown record in " + file.getName() + ", ignoring the rest of the journal");
+                    return false;
+                }
+            }
+        } catch (EOFException e) {
+            return true;
+        } catch (IOException e) {
+            ultimateGames.getMessenger().log(Level.SEVERE, "Could not read " + file.getName());
+            ultimateGames.getMessenger().debug(e);
+            return false;
+        }
+    }
+
+    /**
+     * Copies the journal file next to itself so that the records that couldn't be read aren't lost by compacting.
+     *
+     * @return True if the journal file was backed up, else false.
+     */
+    private boolean backup() {
+        File backupFile = new File(file.getParentFile(), file.getName() + BACKUP_EXTENSION);
+        try {
+            Files.copy(file.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            ultimateGames.getMessenger().log(Level.WARNING, "Backed up " + file.getName() + " to " + backupFile.getName() + " before compacting it");
+            return true;
+        } catch (IOException e) {
+            ultimateGames.getMessenger().log(Level.SEVERE, "Could not back up " + file.getName() + ", it won't be changed until the next start");
+            ultimateGames.getMessenger().debug(e);
+            return false;
+        }
+    }
+
+    /**
+     * Appends a record to the journal, compacting it if it has grown too large.
+     *
+     * @param operation  The record's operation.
+     * @param playerName The player's name.
+     */
+    private void append(byte operation, String playerName) {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.writeByte(operation);
+            output.writeUTF(playerName);
+            output.flush();
+            records++;
+        } catch (IOException e) {
+            ultimateGames.getMessenger().log(Level.SEVERE, "Could not write to " + file.getName());
+            ultimateGames.getMessenger().debug(e);
+        }
+        if (records >= COMPACT_THRESHOLD && records > players.size() * 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the journal with a single add record per player in limbo and reopens it for appending.
+     */
+    private void compact() {
+        closeOutput();
+        File tempFile = new File(file.getParentFile(), file.getName() + TEMP_EXTENSION);
+        try {
+            try (DataOutputStream tempOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                for (String playerName : players) {
+                    tempOutput.writeByte(ADD);
+                    tempOutput.writeUTF(playerName);
+                }
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            records = players.size();
+        } catch (IOException e) {
+            ultimateGames.getMessenger().log(Level.SEVERE, "Could not compact " + file.getName());
+            ultimateGames.getMessenger().debug(e);
+        }
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        } catch (IOException e) {
+            ultimateGames.getMessenger().log(Level.SEVERE, "Could not open " + file.getName());
+            ultimateGames.getMessenger().debug(e);
+        }
+    }
+
+    /**
+     * Closes the journal's output stream if it is open.
+     */
+    private void closeOutput() {
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                ultimateGames.getMessenger().debug(e);
+            }
+            output = null;
+        }
+    }
+}
@@ -46,6 +46,7 @@ import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -58,7 +59,9 @@ public class UPlayerManager implements Listener, PlayerManager {
     private final UG ultimateGames;
     private Map<String, ArenaPlayer> players = new HashMap<>();
     private Map<String, ArenaSpectator> spectators = new HashMap<>();
+    private final LimboJournal limboJournal;
     private static final String LIMBO = "limbo";
+    private static final String LIMBO_JOURNAL = "Limbo.dat";
     private static final SoundEffect JOIN_SOUND = new SoundEffect(Sound.ENDERMAN_TELEPORT, 10, 1);
 
     /**
@@ -66,8 +69,20 @@ public class UPlayerManager implements Listener, PlayerManager {
      *
      * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
      */
+    @SuppressWarnings("unchecked")
     public UPlayerManager(UG ultimateGames) {
         this.ultimateGames = ultimateGames;
+
+        // Move players from the old limbo list in Lobbies.yml into the journal
+        List<String> migrated = new ArrayList<>();
+        if (ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).contains(LIMBO)) {
+            migrated.addAll((List<String>) ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).getList(LIMBO));
+        }
+        limboJournal = new LimboJournal(ultimateGames, new File(ultimateGames.getDataFolder(), LIMBO_JOURNAL), migrated);
+        if (!migrated.isEmpty()) {
+            ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).set(LIMBO, null);
+            ultimateGames.getConfigManager().getConfigAccessor(ConfigType.LOBBY).saveConfig();
+        }
     }
 
     @Override
@@ -99,6 +114,7 @@ public class UPlayerManager implements Listener, PlayerManager {
 
             // Remove the player from the arena
             players.remove(playerName);
+            ultimateGames.getMessenger().getChatRouter().markDirty();
             arena.removePlayer(playerName);
 
             // Show all the spectators to the player
@@ -108,6 +124,7 @@ public class UPlayerManager implements Listener, PlayerManager {
 
             // Make the player a spectator
             spectators.put(playerName, new ArenaSpectator(playerName, arena));
+            ultimateGames.getMessenger().getChatRouter().markDirty();
             arena.addSpectator(playerName);
             arena.getGame().getGamePlugin().makePlayerSpectator(player, arena);
 
@@ -138,6 +155,10 @@ public class UPlayerManager implements Listener, PlayerManager {
     @Override
     public void addPlayerToArena(Player player, Arena arena, Boolean sendMessage) {
         String playerName = player.getName();
+        // Players joining from the queue keep the time they entered the queue as their request time
+        if (!ultimateGames.getQueueManager().isPlayerInQueue(playerName, arena)) {
+            ultimateGames.getMetricsManager().joinRequested(playerName);
+        }
         if (!players.containsKey(playerName) && arena.getPlayers().size() < arena.getMaxPlayers()) {
             PlayerPreJoinEvent event = new PlayerPreJoinEvent(player, arena);
             Bukkit.getPluginManager().callEvent(event);
@@ -150,10 +171,12 @@ public class UPlayerManager implements Listener, PlayerManager {
             // Add the player to the arena and make the player an ArenaPlayer object
             if (((UArena) arena).addPlayer(player.getName()) && arena.getGame().getGamePlugin().addPlayer(player, arena)) {
                 players.put(playerName, new ArenaPlayer(ultimateGames, playerName, arena));
+                ultimateGames.getMetricsManager().playerJoined(arena, playerName);
+                ultimateGames.getMessenger().getChatRouter().markDirty();
                 ultimateGames.getMessenger().debug("Added player " + playerName + " to arena " + arena.getName() + " of game " + arena.getGame().getName());
 
                 // Update the arena's lobby signs
-                ultimateGames.getSignManager().updateSignsOfArena(arena, SignType.LOBBY);
+                ultimateGames.getSignManager().requestSignUpdate(arena, SignType.LOBBY);
 
                 // Send a message that the player joined to the arena
                 if (sendMessage) {
@@ -205,6 +228,7 @@ public class UPlayerManager implements Listener, PlayerManager {
             // Add the spectator to the arena and make the spectator an ArenaSpectator object
             if (((UArena) arena).addSpectator(playerName) && arena.getGame().getGamePlugin().addSpectator(player, arena)) {
                 spectators.put(playerName, new ArenaSpectator(playerName, arena));
+                ultimateGames.getMessenger().getChatRouter().markDirty();
 
                 // Add the spectator to the arena's scoreboard as a ghost.
                 Scoreboard scoreBoard = ultimateGames.getScoreboardManager().getScoreboard(arena);
@@ -257,6 +281,8 @@ public class UPlayerManager implements Listener, PlayerManager {
             arena.removePlayer(playerName);
             arena.getGame().getGamePlugin().removePlayer(player, arena);
             players.remove(playerName);
+            ultimateGames.getMetricsManager().playerLeft(arena);
+            ultimateGames.getMessenger().getChatRouter().markDirty();
 
             // Removes the player from any classes the player is in
             GameClass gameClass = ultimateGames.getGameClassManager().getPlayerClass(arena.getGame(), playerName);
@@ -309,7 +335,7 @@ public class UPlayerManager implements Listener, PlayerManager {
             }
 
             // Updates the arena's lobby signs
-            ultimateGames.getSignManager().updateSignsOfArena(arena, SignType.LOBBY);
+            ultimateGames.getSignManager().requestSignUpdate(arena, SignType.LOBBY);
 
             // Sends a message that the player left the arena
             if (sendMessage) {
@@ -332,6 +358,7 @@ public class UPlayerManager implements Listener, PlayerManager {
             arena.removeSpectator(playerName);
             arena.getGame().getGamePlugin().removeSpectator(player, arena);
             spectators.remove(playerName);
+            ultimateGames.getMessenger().getChatRouter().markDirty();
 
             // Removes the spectator from any spawnpoints the spectator is locked in
             for (PlayerSpawnPoint spawnPoint : ultimateGames.getSpawnpointManager().getSpawnPointsOfArena(arena)) {
@@ -391,20 +418,8 @@ public class UPlayerManager implements Listener, PlayerManager {
      *
      * @param player The player to remove from limbo.
      */
-    @SuppressWarnings("unchecked")
     public void removePlayerFromLimbo(Player player) {
-        String playerName = player.getName();
-        List<String> playersInLimbo;
-        if (ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).contains(LIMBO)) {
-            playersInLimbo = (ArrayList<String>) ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).getList(LIMBO);
-        } else {
-            playersInLimbo = new ArrayList<>();
-        }
-        if (playersInLimbo.contains(playerName)) {
-            playersInLimbo.remove(playerName);
-            ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).set(LIMBO, playersInLimbo);
-            ultimateGames.getConfigManager().getConfigAccessor(ConfigType.LOBBY).saveConfig();
-        }
+        limboJournal.remove(player.getName());
     }
 
     /**
@@ -412,39 +427,26 @@ public class UPlayerManager implements Listener, PlayerManager {
      *
      * @param player The player to add to limbo.
      */
-    @SuppressWarnings("unchecked")
     public void addPlayerToLimbo(Player player) {
-        String playerName = player.getName();
-        List<String> playersInLimbo;
-        if (ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).contains(LIMBO)) {
-            playersInLimbo = (ArrayList<String>) ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).getList(LIMBO);
-        } else {
-            playersInLimbo = new ArrayList<>();
-        }
-        playersInLimbo.add(playerName);
-        ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).set(LIMBO, playersInLimbo);
-        ultimateGames.getConfigManager().getConfigAccessor(ConfigType.LOBBY).saveConfig();
+        limboJournal.add(player.getName());
+    }
+
+    /**
+     * Compacts and closes the limbo journal.
+     */
+    public void closeLimboJournal() {
+        limboJournal.close();
     }
 
     /**
      * Teleports a player in limbo to the lobby if they login and are in limbo.
      * @param event the join event
      */
-    @SuppressWarnings("unchecked")
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        String playerName = event.getPlayer().getName();
-        List<String> playersInLimbo;
-        if (ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).contains(LIMBO)) {
-            playersInLimbo = (ArrayList<String>) ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).getList(LIMBO);
-        } else {
-            playersInLimbo = new ArrayList<>();
-        }
-        if (playersInLimbo.contains(playerName)) {
-            Bukkit.getPlayerExact(playerName).teleport(ultimateGames.getLobbyManager().getLobby());
-            playersInLimbo.remove(playerName);
-            ultimateGames.getConfigManager().getConfig(ConfigType.LOBBY).set(LIMBO, playersInLimbo);
-            ultimateGames.getConfigManager().getConfigAccessor(ConfigType.LOBBY).saveConfig();
+        Player player = event.getPlayer();
+        if (limboJournal.remove(player.getName())) {
+            player.teleport(ultimateGames.getLobbyManager().getLobby());
         }
     }
 
@@ -464,6 +466,7 @@ public class UPlayerManager implements Listener, PlayerManager {
             }
         }
         ultimateGames.getQueueManager().removePlayerFromQueues(player);
+        ultimateGames.getMetricsManager().joinRequestCancelled(playerName);
         if (BossBar.hasStatusBar(player)) {
             BossBar.removeStatusBar(player);
         }
@@ -131,6 +131,7 @@ public class UTeam implements Team {
         String playerName = player.getName();
         if (!players.contains(playerName)) {
             players.add(playerName);
+            ultimateGames.getTeamManager().indexPlayer(playerName, this);
             Scoreboard scoreBoard = ultimateGames.getScoreboardManager().getScoreboard(arena);
             if (scoreBoard != null) {
                 scoreBoard.addPlayer(player, this);
@@ -150,6 +151,7 @@ public class UTeam implements Team {
                 scoreBoard.resetPlayerColor(player);
             }
             players.remove(playerName);
+            ultimateGames.getTeamManager().unindexPlayer(playerName, this);
         }
     }
 
@@ -161,6 +163,9 @@ public class UTeam implements Team {
                 scoreBoard.resetPlayerColor(Bukkit.getPlayerExact(playerName));
             }
         }
+        for (String playerName : players) {
+            ultimateGames.getTeamManager().unindexPlayer(playerName, this);
+        }
         players.clear();
     }
 
@@ -38,6 +38,7 @@ public class UTeamManager implements TeamManager, Listener {
     private final UG ultimateGames;
     private Map<Arena, List<Team>> teams = new HashMap<>();
     private Map<Arena, IconMenu> teamSelectors = new HashMap<>();
+    private Map<String, Team> playerTeams = new HashMap<>();
     private static final Random RANDOM = new Random();
 
     /**
@@ -88,6 +89,7 @@ public class UTeamManager implements TeamManager, Listener {
                 team.removePlayers();
             }
             teams.remove(arena);
+            ultimateGames.getArenaStatePublisher().markDirty(arena);
         }
     }
 
@@ -98,6 +100,7 @@ public class UTeamManager implements TeamManager, Listener {
         if (!arenaTeams.contains(team)) {
             arenaTeams.add(team);
             teams.put(arena, arenaTeams);
+            ultimateGames.getArenaStatePublisher().markDirty(arena);
             return team;
         } else {
             return null;
@@ -117,35 +120,45 @@ public class UTeamManager implements TeamManager, Listener {
                 } else {
                     teams.put(arena, arenaTeams);
                 }
+                ultimateGames.getArenaStatePublisher().markDirty(arena);
             }
         }
     }
 
     @Override
     public boolean isPlayerInTeam(String playerName) {
-        Arena arena = ultimateGames.getPlayerManager().getPlayerArena(playerName);
-        if (arena != null && teams.containsKey(arena)) {
-            for (Team team : teams.get(arena)) {
-                if (team.hasPlayer(playerName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return playerTeams.containsKey(playerName);
     }
 
     @Override
     public Team getPlayerTeam(String playerName) {
-        Arena arena = ultimateGames.getPlayerManager().getPlayerArena(playerName);
-        Team playerTeam = null;
-        if (arena != null && teams.containsKey(arena)) {
-            for (Team team : teams.get(arena)) {
-                if (team.hasPlayer(playerName)) {
-                    playerTeam = team;
-                }
-            }
+        return playerTeams.get(playerName);
+    }
+
+    /**
+     * Indexes a player as a member of a team. Called by {@link me.ampayne2.ultimategames.core.players.teams.UTeam}.
+     *
+     * @param playerName The player's name.
+     * @param team       The team.
+     */
+    void indexPlayer(String playerName, Team team) {
+        playerTeams.put(playerName, team);
+        ultimateGames.getMessenger().getChatRouter().markDirty();
+        ultimateGames.getArenaStatePublisher().markDirty(team.getArena());
+    }
+
+    /**
+     * Removes a player from the team index if they are indexed as a member of the team. Called by {@link me.ampayne2.ultimategames.core.players.teams.UTeam}.
+     *
+     * @param playerName The player's name.
+     * @param team       The team.
+     */
+    void unindexPlayer(String playerName, Team team) {
+        if (team.equals(playerTeams.get(playerName))) {
+            playerTeams.remove(playerName);
+            ultimateGames.getMessenger().getChatRouter().markDirty();
+            ultimateGames.getArenaStatePublisher().markDirty(team.getArena());
         }
-        return playerTeam;
     }
 
     @Override
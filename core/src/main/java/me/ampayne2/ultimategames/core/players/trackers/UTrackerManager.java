@@ -0,0 +1,221 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.players.trackers;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.players.trackers.Tracker;
+import me.ampayne2.ultimategames.api.players.trackers.TrackerManager;
+import me.ampayne2.ultimategames.core.UG;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * Updates all trackers from a single task and handles player quits for all trackers with a single listener.<br>
+ * Quits are only passed to the trackers of the quitting player's arena and to the trackers targeting the player.<br>
+ * Trackers are spread over 5 groups, one of which is updated each tick, so every tracker is updated every 5 ticks.
+ */
+public class UTrackerManager implements TrackerManager, Listener, Runnable {
+    private final UG ultimateGames;
+    private final Map<Arena, List<Tracker>> arenaTrackers = new HashMap<>();
+    private final Map<String, List<Tracker>> playerTrackers = new HashMap<>();
+    private final Map<String, List<Tracker>> targetTrackers = new HashMap<>();
+    private final Map<Tracker, Set<String>> trackerTargets = new HashMap<>();
+    private final Map<Tracker, Integer> trackerGroups = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final List<Tracker>[] groups = new List[UPDATE_PERIOD];
+    private int currentGroup;
+    private BukkitTask task;
+    private static final int UPDATE_PERIOD = 5;
+
+    /**
+     * Creates a new TrackerManager.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     */
+    public UTrackerManager(UG ultimateGames) {
+        this.ultimateGames = ultimateGames;
+        for (int i = 0; i < UPDATE_PERIOD; i++) {
+            groups[i] = new ArrayList<>();
+        }
+
+        Bukkit.getServer().getPluginManager().registerEvents(this, ultimateGames.getPlugin());
+    }
+
+    @Override
+    public void addTracker(Tracker tracker) {
+        if (trackerGroups.containsKey(tracker)) {
+            return;
+        }
+        int group = 0;
+        for (int i = 1; i < UPDATE_PERIOD; i++) {
+            if (groups[i].size() < groups[group].size()) {
+                group = i;
+            }
+        }
+        groups[group].add(tracker);
+        trackerGroups.put(tracker, group);
+        add(arenaTrackers, tracker.getArena(), tracker);
+        add(playerTrackers, tracker.getPlayer().getName(), tracker);
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(ultimateGames, this, 1, 1);
+        }
+    }
+
+    @Override
+    public void removeTracker(Tracker tracker) {
+        Integer group = trackerGroups.remove(tracker);
+        if (group == null) {
+            return;
+        }
+        groups[group].remove(tracker);
+        remove(arenaTrackers, tracker.getArena(), tracker);
+        remove(playerTrackers, tracker.getPlayer().getName(), tracker);
+        Set<String> targets = trackerTargets.remove(tracker);
+        if (targets != null) {
+            for (String target : targets) {
+                remove(targetTrackers, target, tracker);
+            }
+        }
+        if (trackerGroups.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    @Override
+    public void addTarget(Tracker tracker, String playerName) {
+        if (!trackerGroups.containsKey(tracker)) {
+            return;
+        }
+        Set<String> targets = trackerTargets.get(tracker);
+        if (targets == null) {
+            targets = new HashSet<>();
+            trackerTargets.put(tracker, targets);
+        }
+        if (targets.add(playerName)) {
+            add(targetTrackers, playerName, tracker);
+        }
+    }
+
+    @Override
+    public void removeTarget(Tracker tracker, String playerName) {
+        Set<String> targets = trackerTargets.get(tracker);
+        if (targets != null && targets.remove(playerName)) {
+            remove(targetTrackers, playerName, tracker);
+            if (targets.isEmpty()) {
+                trackerTargets.remove(tracker);
+            }
+        }
+    }
+
+    @Override
+    public List<Tracker> getTrackersOfArena(Arena arena) {
+        return arenaTrackers.containsKey(arena) ? new ArrayList<>(arenaTrackers.get(arena)) : new ArrayList<Tracker>();
+    }
+
+    @Override
+    public void stopTrackersOfArena(Arena arena) {
+        for (Tracker tracker : getTrackersOfArena(arena)) {
+            tracker.stop();
+        }
+    }
+
+    @Override
+    public void run() {
+        currentGroup = (currentGroup + 1) % UPDATE_PERIOD;
+        List<Tracker> group = groups[currentGroup];
+        if (group.isEmpty()) {
+            return;
+        }
+        // Trackers may be stopped while updating
+        for (Tracker tracker : group.toArray(new Tracker[group.size()])) {
+            try {
+                tracker.run();
+            } catch (Exception e) {
+                ultimateGames.getMessenger().log(Level.SEVERE, "An error occurred in updating a " + tracker.getClass().getSimpleName());
+                ultimateGames.getMessenger().debug(e);
+            }
+        }
+    }
+
+    /**
+     * Stops the trackers of a player that disconnects and notifies the trackers of the player's arena and the trackers
+     * targeting the player.
+     *
+     * @param event The {@link org.bukkit.event.player.PlayerQuitEvent} event.
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        if (trackerGroups.isEmpty()) {
+            return;
+        }
+        String playerName = event.getPlayer().getName();
+        if (playerTrackers.containsKey(playerName)) {
+            for (Tracker tracker : new ArrayList<>(playerTrackers.get(playerName))) {
+                tracker.onPlayerQuit(event);
+            }
+        }
+        Set<Tracker> notified = new LinkedHashSet<>();
+        Arena arena = ultimateGames.getPlayerManager().getPlayerArena(playerName);
+        if (arena != null && arenaTrackers.containsKey(arena)) {
+            notified.addAll(arenaTrackers.get(arena));
+        }
+        if (targetTrackers.containsKey(playerName)) {
+            notified.addAll(targetTrackers.get(playerName));
+        }
+        for (Tracker tracker : notified) {
+            // Trackers may be stopped by the quit
+            if (trackerGroups.containsKey(tracker)) {
+                tracker.onTargetPlayerQuit(event);
+            }
+        }
+    }
+
+    private static <K> void add(Map<K, List<Tracker>> map, K key, Tracker tracker) {
+        List<Tracker> trackers = map.get(key);
+        if (trackers == null) {
+            trackers = new ArrayList<>();
+            map.put(key, trackers);
+        }
+        trackers.add(tracker);
+    }
+
+    private static <K> void remove(Map<K, List<Tracker>> map, K key, Tracker tracker) {
+        List<Tracker> trackers = map.get(key);
+        if (trackers != null) {
+            trackers.remove(tracker);
+            if (trackers.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+}
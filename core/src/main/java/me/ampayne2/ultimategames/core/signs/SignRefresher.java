@@ -0,0 +1,80 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.signs;
+
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.signs.SignType;
+import me.ampayne2.ultimategames.core.UG;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects sign update requests during a tick and updates each requested arena's signs once on the next tick.
+ */
+public class SignRefresher implements Runnable {
+    private final UG ultimateGames;
+    private final Map<Arena, EnumSet<SignType>> dirty = new LinkedHashMap<>();
+    private BukkitTask task;
+
+    /**
+     * Creates a new SignRefresher.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     */
+    public SignRefresher(UG ultimateGames) {
+        this.ultimateGames = ultimateGames;
+    }
+
+    /**
+     * Requests an update of the signs of an arena.
+     *
+     * @param arena    The arena.
+     * @param signType The type of signs to update.
+     */
+    public void requestUpdate(Arena arena, SignType signType) {
+        EnumSet<SignType> signTypes = dirty.get(arena);
+        if (signTypes == null) {
+            dirty.put(arena, EnumSet.of(signType));
+        } else {
+            signTypes.add(signType);
+        }
+        if (task == null) {
+            task = Bukkit.getScheduler().runTask(ultimateGames, this);
+        }
+    }
+
+    @Override
+    public void run() {
+        task = null;
+        List<Map.Entry<Arena, EnumSet<SignType>>> entries = new ArrayList<>(dirty.entrySet());
+        dirty.clear();
+        USignManager signManager = ultimateGames.getSignManager();
+        for (Map.Entry<Arena, EnumSet<SignType>> entry : entries) {
+            for (SignType signType : entry.getValue()) {
+                signManager.updateSignsOfArena(entry.getKey(), signType);
+            }
+        }
+    }
+}
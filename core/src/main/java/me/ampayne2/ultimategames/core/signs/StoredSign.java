@@ -0,0 +1,150 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.signs;
+
+import me.ampayne2.ultimategames.api.signs.SignType;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The stored position and label of a UG Sign, as saved in its arena's config.
+ */
+public final class StoredSign {
+    private final SignType signType;
+    private final String worldName;
+    private final int x;
+    private final int y;
+    private final int z;
+    private final String label;
+    public static final String SIGNS_PATH = "Signs";
+    private static final int WORLD_INDEX = 0;
+    private static final int X_INDEX = 1;
+    private static final int Y_INDEX = 2;
+    private static final int Z_INDEX = 3;
+    private static final int LABEL_INDEX = 4;
+
+    /**
+     * Creates a new StoredSign.
+     *
+     * @param signType  The sign's type.
+     * @param worldName The name of the sign's world.
+     * @param x         The block x coordinate.
+     * @param y         The block y coordinate.
+     * @param z         The block z coordinate.
+     * @param label     The sign's label, or null if the sign type has no label.
+     */
+    public StoredSign(SignType signType, String worldName, int x, int y, int z, String label) {
+        this.signType = signType;
+        this.worldName = worldName;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.label = label;
+    }
+
+    /**
+     * Reads a StoredSign from its list form.
+     *
+     * @param signType The sign's type.
+     * @param values   The world, x, y, z and label of the sign.
+     * @return The StoredSign.
+     */
+    public static StoredSign fromList(SignType signType, List<String> values) {
+        return new StoredSign(signType, values.get(WORLD_INDEX), Integer.parseInt(values.get(X_INDEX)), Integer.parseInt(values.get(Y_INDEX)), Integer.parseInt(values.get(Z_INDEX)),
+                values.size() > LABEL_INDEX ? values.get(LABEL_INDEX) : null);
+    }
+
+    /**
+     * Reads the StoredSigns of an arena from the arena's ConfigurationSection.
+     *
+     * @param arenaSection The arena's ConfigurationSection.
+     * @return The StoredSigns.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<StoredSign> fromSection(ConfigurationSection arenaSection) {
+        List<StoredSign> signs = new ArrayList<>();
+        ConfigurationSection signsSection = arenaSection.getConfigurationSection(SIGNS_PATH);
+        if (signsSection != null) {
+            for (SignType signType : SignType.values()) {
+                if (signsSection.isList(signType.name())) {
+                    for (Object values : signsSection.getList(signType.name())) {
+                        signs.add(fromList(signType, (List<String>) values));
+                    }
+                }
+            }
+        }
+        return signs;
+    }
+
+    /**
+     * Converts the StoredSign to its list form.
+     *
+     * @return The world, x, y, z and label of the sign.
+     */
+    public List<String> toList() {
+        List<String> values = new ArrayList<>();
+        values.add(worldName);
+        values.add(Integer.toString(x));
+        values.add(Integer.toString(y));
+        values.add(Integer.toString(z));
+        if (label != null) {
+            values.add(label);
+        }
+        return values;
+    }
+
+    /**
+     * Checks if the StoredSign is at a block position.
+     *
+     * @param worldName The name of the world.
+     * @param x         The block x coordinate.
+     * @param y         The block y coordinate.
+     * @param z         The block z coordinate.
+     * @return True if the StoredSign is at the position, else false.
+     */
+    public boolean isAt(String worldName, int x, int y, int z) {
+        return this.x == x && this.y == y && this.z == z && this.worldName.equals(worldName);
+    }
+
+    public SignType getSignType() {
+        return signType;
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -24,12 +24,14 @@ import me.ampayne2.ultimategames.api.signs.SignType;
 import org.bukkit.Material;
 import org.bukkit.event.Event;
 
+import java.util.Arrays;
 import java.util.List;
 
 public abstract class USign implements Sign {
     private final org.bukkit.block.Sign sign;
     private final Arena arena;
     private final SignType signType;
+    private String[] writtenLines;
 
     /**
      * Creates a new sign
@@ -73,12 +75,21 @@ public abstract class USign implements Sign {
         Material material = sign.getLocation().getBlock().getType();
         if (material == Material.WALL_SIGN || material == Material.SIGN_POST) {
             List<String> lines = getUpdatedLines();
+            String[] newLines = sign.getLines().clone();
             for (int i = 0; i < 4; i++) {
                 if (lines.size() > i) {
-                    sign.setLine(i, lines.get(i));
+                    newLines[i] = lines.get(i);
                 }
             }
+            // Skip rewriting the sign block if the text is the same as the last written text
+            if (Arrays.equals(newLines, writtenLines)) {
+                return;
+            }
+            for (int i = 0; i < 4; i++) {
+                sign.setLine(i, newLines[i]);
+            }
             sign.update();
+            writtenLines = newLines;
         }
     }
 }
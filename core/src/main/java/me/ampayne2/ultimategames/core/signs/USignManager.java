@@ -19,7 +19,6 @@
 package me.ampayne2.ultimategames.core.signs;
 
 import me.ampayne2.ultimategames.api.arenas.Arena;
-import me.ampayne2.ultimategames.api.config.ConfigType;
 import me.ampayne2.ultimategames.api.games.Game;
 import me.ampayne2.ultimategames.api.signs.Sign;
 import me.ampayne2.ultimategames.api.signs.SignManager;
@@ -30,7 +29,7 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.*;
 import java.util.Map.Entry;
@@ -39,85 +38,73 @@ import java.util.Map.Entry;
 public class USignManager implements SignManager {
     private final UG ultimateGames;
     private final Map<SignType, List<USign>> ugSigns = new HashMap<>();
+    private final Map<World, Map<Long, USign>> signPositions = new HashMap<>();
+    private final Map<Arena, Map<SignType, List<USign>>> signsOfArena = new HashMap<>();
+    private final SignRefresher signRefresher;
 
     public USignManager(UG ultimateGames) {
         this.ultimateGames = ultimateGames;
+        signRefresher = new SignRefresher(ultimateGames);
         loadSigns();
     }
 
     @Override
     public boolean isSign(org.bukkit.block.Sign sign, SignType signType) {
-        for (USign ugSign : ugSigns.get(signType)) {
-            if (sign.equals(ugSign.getSign())) {
-                return true;
-            }
-        }
-        return false;
+        return getSign(sign, signType) != null;
     }
 
     @Override
     public boolean isSign(org.bukkit.block.Sign sign) {
-        for (Entry<SignType, List<USign>> entry : ugSigns.entrySet()) {
-            for (USign ugSign : entry.getValue()) {
-                if (sign.equals(ugSign.getSign())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return getSign(sign) != null;
     }
 
     @Override
     public RedstoneOutputSign getRedstoneOutputSign(Location location) {
-        for (USign ugSign : ugSigns.get(SignType.REDSTONE_OUTPUT)) {
-            if (ugSign.getSign().getLocation().equals(location)) {
-                return (RedstoneOutputSign) ugSign;
-            }
-        }
-        return null;
+        USign ugSign = getSign(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        return ugSign != null && ugSign.getSignType() == SignType.REDSTONE_OUTPUT ? (RedstoneOutputSign) ugSign : null;
     }
 
     @Override
     public USign getSign(org.bukkit.block.Sign sign, SignType signType) {
-        for (USign ugSign : ugSigns.get(signType)) {
-            if (sign.equals(ugSign.getSign())) {
-                return ugSign;
-            }
-        }
-        return null;
+        USign ugSign = getSign(sign);
+        return ugSign != null && ugSign.getSignType() == signType ? ugSign : null;
     }
 
     @Override
     public USign getSign(org.bukkit.block.Sign sign) {
-        for (Entry<SignType, List<USign>> entry : ugSigns.entrySet()) {
-            for (USign ugSign : entry.getValue()) {
-                if (sign.equals(ugSign.getSign())) {
-                    return ugSign;
-                }
-            }
-        }
-        return null;
+        return getSign(sign.getWorld(), sign.getX(), sign.getY(), sign.getZ());
+    }
+
+    /**
+     * Gets the UG Sign at a block position.
+     *
+     * @param world The world.
+     * @param x     The block x coordinate.
+     * @param y     The block y coordinate.
+     * @param z     The block z coordinate.
+     * @return The UG Sign, or null if there is no UG Sign at the position.
+     */
+    private USign getSign(World world, int x, int y, int z) {
+        Map<Long, USign> worldSigns = signPositions.get(world);
+        return worldSigns == null ? null : worldSigns.get(toKey(x, y, z));
     }
 
     @Override
     public List<Sign> getSignsOfArena(Arena arena, SignType signType) {
-        List<Sign> signs = new ArrayList<>();
-        for (USign sign : ugSigns.get(signType)) {
-            if (sign.getArena().equals(arena)) {
-                signs.add(sign);
-            }
+        Map<SignType, List<USign>> arenaSigns = signsOfArena.get(arena);
+        if (arenaSigns == null || !arenaSigns.containsKey(signType)) {
+            return new ArrayList<>();
         }
-        return signs;
+        return new ArrayList<Sign>(arenaSigns.get(signType));
     }
 
     @Override
     public List<Sign> getSignsOfArena(Arena arena) {
         List<Sign> signs = new ArrayList<>();
-        for (Entry<SignType, List<USign>> entry : ugSigns.entrySet()) {
-            for (USign sign : entry.getValue()) {
-                if (sign.getArena().equals(arena)) {
-                    signs.add(sign);
-                }
+        Map<SignType, List<USign>> arenaSigns = signsOfArena.get(arena);
+        if (arenaSigns != null) {
+            for (List<USign> typeSigns : arenaSigns.values()) {
+                signs.addAll(typeSigns);
             }
         }
         return signs;
@@ -155,6 +142,17 @@ public class USignManager implements SignManager {
         ultimateGames.getMessenger().debug("Updated signs of arena " + arena.getName() + " of game " + arena.getGame().getName() + " of type " + signType.name());
     }
 
+    /**
+     * Requests an update of the signs of an arena. The signs are updated once on the next tick, no matter how often
+     * the update is requested until then.
+     *
+     * @param arena    The arena.
+     * @param signType The type of signs to update.
+     */
+    public void requestSignUpdate(Arena arena, SignType signType) {
+        signRefresher.requestUpdate(arena, signType);
+    }
+
     @Override
     public void updateSignsOfArena(Arena arena) {
         for (Sign sign : getSignsOfArena(arena)) {
@@ -179,6 +177,69 @@ public class USignManager implements SignManager {
 
     public void addSign(USign sign, SignType signType) {
         ugSigns.get(signType).add(sign);
+
+        org.bukkit.block.Sign bukkitSign = sign.getSign();
+        Map<Long, USign> worldSigns = signPositions.get(bukkitSign.getWorld());
+        if (worldSigns == null) {
+            worldSigns = new HashMap<>();
+            signPositions.put(bukkitSign.getWorld(), worldSigns);
+        }
+        worldSigns.put(toKey(bukkitSign.getX(), bukkitSign.getY(), bukkitSign.getZ()), sign);
+
+        Map<SignType, List<USign>> arenaSigns = signsOfArena.get(sign.getArena());
+        if (arenaSigns == null) {
+            arenaSigns = new EnumMap<>(SignType.class);
+            signsOfArena.put(sign.getArena(), arenaSigns);
+        }
+        List<USign> typeSigns = arenaSigns.get(signType);
+        if (typeSigns == null) {
+            typeSigns = new ArrayList<>();
+            arenaSigns.put(signType, typeSigns);
+        }
+        typeSigns.add(sign);
+    }
+
+    /**
+     * Removes a UG Sign from the sign lists and indexes.
+     *
+     * @param sign     The UG Sign.
+     * @param signType The sign's type.
+     */
+    private void unindexSign(USign sign, SignType signType) {
+        ugSigns.get(signType).remove(sign);
+
+        org.bukkit.block.Sign bukkitSign = sign.getSign();
+        Map<Long, USign> worldSigns = signPositions.get(bukkitSign.getWorld());
+        if (worldSigns != null) {
+            worldSigns.remove(toKey(bukkitSign.getX(), bukkitSign.getY(), bukkitSign.getZ()));
+            if (worldSigns.isEmpty()) {
+                signPositions.remove(bukkitSign.getWorld());
+            }
+        }
+
+        Map<SignType, List<USign>> arenaSigns = signsOfArena.get(sign.getArena());
+        if (arenaSigns != null && arenaSigns.containsKey(signType)) {
+            List<USign> typeSigns = arenaSigns.get(signType);
+            typeSigns.remove(sign);
+            if (typeSigns.isEmpty()) {
+                arenaSigns.remove(signType);
+                if (arenaSigns.isEmpty()) {
+                    signsOfArena.remove(sign.getArena());
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs block coordinates into a single key. Supports x and z between -33554432 and 33554431 and y between 0 and 4095.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return The key.
+     */
+    private static long toKey(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
     }
 
     /**
@@ -191,47 +252,42 @@ public class USignManager implements SignManager {
      * @return The UG Sign created.
      */
     public USign createSign(String label, org.bukkit.block.Sign sign, Arena arena, SignType signType) {
-        FileConfiguration ugSignConfig = ultimateGames.getConfigManager().getConfig(ConfigType.SIGN);
-        String signPath = signType.toString() + "." + arena.getGame().getName() + "." + arena.getName();
-        List<String> signInfo = new ArrayList<>();
-        signInfo.add(0, sign.getWorld().getName());
-        signInfo.add(1, Integer.toString(sign.getX()));
-        signInfo.add(2, Integer.toString(sign.getY()));
-        signInfo.add(3, Integer.toString(sign.getZ()));
-        if (signType.hasLabel()) {
-            signInfo.add(4, label);
-        }
-        List<List<String>> ugSigns;
-        if (ugSignConfig.contains(signPath)) {
-            ugSigns = (List<List<String>>) ugSignConfig.getList(signPath);
-            ugSigns.add(signInfo);
-        } else {
-            ugSigns = new ArrayList<>();
-            ugSigns.add(signInfo);
-            ugSignConfig.createSection(signPath);
-        }
-        ugSignConfig.set(signPath, ugSigns);
-        ultimateGames.getConfigManager().getConfigAccessor(ConfigType.SIGN).saveConfig();
-        USign ugSign = null;
+        ConfigurationSection arenaSection = arena.getSection();
+        String signPath = StoredSign.SIGNS_PATH + "." + signType.name();
+        StoredSign storedSign = new StoredSign(signType, sign.getWorld().getName(), sign.getX(), sign.getY(), sign.getZ(), signType.hasLabel() ? label : null);
+        List<List<String>> ugSigns = arenaSection.contains(signPath) ? (List<List<String>>) arenaSection.getList(signPath) : new ArrayList<List<String>>();
+        ugSigns.add(storedSign.toList());
+        arenaSection.set(signPath, ugSigns);
+        ultimateGames.getConfigManager().getArenaConfigAccessor(arena).saveConfig();
+        USign ugSign = newSign(label, sign, arena, signType);
+        addSign(ugSign, signType);
+        return ugSign;
+    }
+
+    /**
+     * Creates a UG Sign of a sign type.
+     *
+     * @param label    The sign's label.
+     * @param sign     The physical sign.
+     * @param arena    The arena the sign is in.
+     * @param signType The sign's type.
+     * @return The UG Sign.
+     */
+    private USign newSign(String label, org.bukkit.block.Sign sign, Arena arena, SignType signType) {
         switch (signType) {
             case LOBBY:
-                ugSign = new LobbySign(ultimateGames, sign, arena);
-                break;
+                return new LobbySign(ultimateGames, sign, arena);
             case CLICK_INPUT:
-                ugSign = new ClickInputSign(label, sign, arena);
-                break;
+                return new ClickInputSign(label, sign, arena);
             case REDSTONE_INPUT:
-                ugSign = new RedstoneInputSign(label, sign, arena);
-                break;
+                return new RedstoneInputSign(label, sign, arena);
             case TEXT_OUTPUT:
-                ugSign = new TextOutputSign(label, sign, arena);
-                break;
+                return new TextOutputSign(label, sign, arena);
             case REDSTONE_OUTPUT:
-                ugSign = new RedstoneOutputSign(label, sign, arena);
-                break;
+                return new RedstoneOutputSign(label, sign, arena);
+            default:
+                return null;
         }
-        addSign(ugSign, signType);
-        return ugSign;
     }
 
     /**
@@ -242,32 +298,25 @@ public class USignManager implements SignManager {
     public void removeSign(org.bukkit.block.Sign sign) {
         USign ugSign = getSign(sign);
         if (ugSign != null) {
-            FileConfiguration ugSignConfig = ultimateGames.getConfigManager().getConfig(ConfigType.SIGN);
-            String world = sign.getWorld().getName();
-            Integer x = sign.getX();
-            Integer y = sign.getY();
-            Integer z = sign.getZ();
+            Arena arena = ugSign.getArena();
+            ConfigurationSection arenaSection = arena.getSection();
             SignType signType = ugSign.getSignType();
-            String gamePath = signType.toString() + "." + ugSign.getArena().getGame().getName();
-            String arenaPath = gamePath + "." + ugSign.getArena().getName();
-            if (ugSignConfig.contains(arenaPath)) {
-                List<List<String>> ugSigns = (List<List<String>>) ugSignConfig.getList(arenaPath);
-                List<List<String>> newUGSigns = new ArrayList<>(ugSigns);
-                for (List<String> signInfo : ugSigns) {
-                    if (world.equals(signInfo.get(0)) && x.equals(Integer.parseInt(signInfo.get(1))) && y.equals(Integer.parseInt(signInfo.get(2))) && z.equals(Integer.parseInt(signInfo.get(3)))) {
-                        newUGSigns.remove(signInfo);
+            String signPath = StoredSign.SIGNS_PATH + "." + signType.name();
+            if (arenaSection.contains(signPath)) {
+                String world = sign.getWorld().getName();
+                List<List<String>> newUGSigns = new ArrayList<>();
+                for (List<String> signInfo : (List<List<String>>) arenaSection.getList(signPath)) {
+                    if (!StoredSign.fromList(signType, signInfo).isAt(world, sign.getX(), sign.getY(), sign.getZ())) {
+                        newUGSigns.add(signInfo);
                     }
                 }
-                ugSignConfig.set(arenaPath, newUGSigns);
-                if (ugSignConfig.getList(arenaPath).isEmpty()) {
-                    ugSignConfig.set(arenaPath, null);
+                arenaSection.set(signPath, newUGSigns.isEmpty() ? null : newUGSigns);
+                if (arenaSection.getConfigurationSection(StoredSign.SIGNS_PATH).getKeys(false).isEmpty()) {
+                    arenaSection.set(StoredSign.SIGNS_PATH, null);
                 }
-                if (ugSignConfig.getConfigurationSection(gamePath).getKeys(true).isEmpty()) {
-                    ugSignConfig.set(gamePath, null);
-                }
-                ultimateGames.getConfigManager().getConfigAccessor(ConfigType.SIGN).saveConfig();
+                ultimateGames.getConfigManager().getArenaConfigAccessor(arena).saveConfig();
             }
-            ugSigns.get(signType).remove(ugSign);
+            unindexSign(ugSign, signType);
         }
     }
 
@@ -276,49 +325,18 @@ public class USignManager implements SignManager {
      */
     public void loadSigns() {
         ugSigns.clear();
-        FileConfiguration ugSignConfig = ultimateGames.getConfigManager().getConfig(ConfigType.SIGN);
+        signPositions.clear();
+        signsOfArena.clear();
         for (SignType signType : EnumSet.allOf(SignType.class)) {
             ugSigns.put(signType, new ArrayList<USign>());
-            String signTypeName = signType.toString();
-            if (ugSignConfig.getConfigurationSection(signTypeName) != null) {
-                for (String gameKey : ugSignConfig.getConfigurationSection(signTypeName).getKeys(false)) {
-                    if (ultimateGames.getGameManager().gameExists(gameKey)) {
-                        String gamePath = signTypeName + "." + gameKey;
-                        for (String arenaKey : ugSignConfig.getConfigurationSection(gamePath).getKeys(false)) {
-                            if (ultimateGames.getArenaManager().arenaExists(arenaKey, gameKey)) {
-                                String arenaPath = gamePath + "." + arenaKey;
-                                List<List<String>> ugSigns = (List<List<String>>) ugSignConfig.getList(arenaPath);
-                                for (List<String> signInfo : ugSigns) {
-                                    World world = Bukkit.getWorld(signInfo.get(0));
-                                    Integer x = Integer.parseInt(signInfo.get(1));
-                                    Integer y = Integer.parseInt(signInfo.get(2));
-                                    Integer z = Integer.parseInt(signInfo.get(3));
-                                    Block locBlock = new Location(world, x, y, z).getBlock();
-                                    if (locBlock.getType() == Material.WALL_SIGN || locBlock.getType() == Material.SIGN_POST) {
-                                        Arena arena = ultimateGames.getArenaManager().getArena(arenaKey, gameKey);
-                                        USign ugSign = null;
-                                        switch (signType) {
-                                            case LOBBY:
-                                                ugSign = new LobbySign(ultimateGames, (org.bukkit.block.Sign) locBlock.getState(), arena);
-                                                break;
-                                            case CLICK_INPUT:
-                                                ugSign = new ClickInputSign(signInfo.get(4), (org.bukkit.block.Sign) locBlock.getState(), arena);
-                                                break;
-                                            case REDSTONE_INPUT:
-                                                ugSign = new RedstoneInputSign(signInfo.get(4), (org.bukkit.block.Sign) locBlock.getState(), arena);
-                                                break;
-                                            case TEXT_OUTPUT:
-                                                ugSign = new TextOutputSign(signInfo.get(4), (org.bukkit.block.Sign) locBlock.getState(), arena);
-                                                break;
-                                            case REDSTONE_OUTPUT:
-                                                ugSign = new RedstoneOutputSign(signInfo.get(4), (org.bukkit.block.Sign) locBlock.getState(), arena);
-                                                break;
-                                        }
-                                        addSign(ugSign, signType);
-                                    }
-                                }
-                            }
-                        }
+        }
+        for (Game game : ultimateGames.getGameManager().getGames()) {
+            for (Arena arena : ultimateGames.getArenaManager().getArenasOfGame(game.getName())) {
+                for (StoredSign storedSign : ultimateGames.getArenaManager().getStoredSigns(arena)) {
+                    World world = Bukkit.getWorld(storedSign.getWorldName());
+                    Block locBlock = new Location(world, storedSign.getX(), storedSign.getY(), storedSign.getZ()).getBlock();
+                    if (locBlock.getType() == Material.WALL_SIGN || locBlock.getType() == Material.SIGN_POST) {
+                        addSign(newSign(storedSign.getLabel(), (org.bukkit.block.Sign) locBlock.getState(), arena, storedSign.getSignType()), storedSign.getSignType());
                     }
                 }
             }
@@ -0,0 +1,417 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.webapi;
+
+import com.google.gson.Gson;
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.arenas.EndType;
+import me.ampayne2.ultimategames.core.UG;
+import org.eclipse.jetty.io.EndPoint;
+import org.eclipse.jetty.server.AbstractHttpConnection;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Streams arena state changes to web API clients as server-sent events.<br>
+ * Events are created on the main thread, serialized once and kept in a ring buffer so that clients can resume with
+ * the Last-Event-ID header. Writing to clients happens on a small fan-out executor; clients that fall too far behind
+ * are disconnected instead of blocking anyone. Servlet 3.0 writes always block, so a separate watchdog closes the
+ * connection of any client whose write stalls for too long, freeing the fan-out thread stuck on it.
+ */
+public class ArenaEventStream implements WebEndpoint {
+    private final UG ultimateGames;
+    private final boolean enabled;
+    private final Gson gson = new Gson();
+    private final byte[][] backlog = new byte[BACKLOG_SIZE][];
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService executor;
+    private final ScheduledExecutorService watchdog;
+    private long sequence;
+    private static final int BACKLOG_SIZE = 256;
+    private static final int MAX_CLIENTS = 100;
+    private static final int CLIENT_QUEUE_SIZE = BACKLOG_SIZE * 2;
+    private static final int FAN_OUT_THREADS = 2;
+    private static final int HEARTBEAT_SECONDS = 15;
+    private static final long WRITE_TIMEOUT_MILLIS = 5000;
+    private static final long WATCHDOG_INTERVAL_MILLIS = 1000;
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Creates a new ArenaEventStream.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param enabled       If the web API is enabled.
+     */
+    public ArenaEventStream(UG ultimateGames, boolean enabled) {
+        this.ultimateGames = ultimateGames;
+        this.enabled = enabled;
+        if (enabled) {
+            executor = Executors.newScheduledThreadPool(FAN_OUT_THREADS, createThreadFactory("UltimateGames Event Stream"));
+            // The watchdog has its own thread so that it still runs when every fan-out thread is stuck in a write
+            watchdog = Executors.newSingleThreadScheduledExecutor(createThreadFactory("UltimateGames Event Stream Watchdog"));
+            watchdog.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    for (Client client : clients) {
+                        client.send(HEARTBEAT);
+                    }
+                }
+            }, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+            watchdog.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    long now = System.currentTimeMillis();
+                    for (Client client : clients) {
+                        client.checkWrite(now);
+                    }
+                }
+            }, WATCHDOG_INTERVAL_MILLIS, WATCHDOG_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } else {
+            executor = null;
+            watchdog = null;
+        }
+    }
+
+    /**
+     * Publishes a status change of an arena.
+     *
+     * @param arena The arena.
+     */
+    public void statusChanged(Arena arena) {
+        if (enabled) {
+            Map<String, Object> data = createData(arena);
+            data.put("status", arena.getStatus().name());
+            publish("status", data);
+        }
+    }
+
+    /**
+     * Publishes a player count change of an arena.
+     *
+     * @param arena The arena.
+     */
+    public void playersChanged(Arena arena) {
+        if (enabled) {
+            Map<String, Object> data = createData(arena);
+            data.put("currentPlayers", arena.getPlayers().size());
+            data.put("maxPlayers", arena.getMaxPlayers());
+            publish("players", data);
+        }
+    }
+
+    /**
+     * Publishes the start of a countdown of an arena.
+     *
+     * @param arena   The arena.
+     * @param type    The type of the countdown.
+     * @param seconds The length of the countdown in seconds.
+     */
+    public void countdownStarted(Arena arena, String type, int seconds) {
+        if (enabled) {
+            Map<String, Object> data = createData(arena);
+            data.put("countdown", type);
+            data.put("seconds", seconds);
+            publish("countdown", data);
+        }
+    }
+
+    /**
+     * Publishes the end of an arena's match.<br>
+     * Must be called before the players are removed from the arena, the remaining players are reported as the
+     * players who finished the match.
+     *
+     * @param arena   The arena.
+     * @param endType The way the arena ended.
+     */
+    public void arenaEnded(Arena arena, EndType endType) {
+        if (enabled) {
+            Map<String, Object> data = createData(arena);
+            data.put("endType", endType.name());
+            data.put("players", new ArrayList<>(arena.getPlayers()));
+            publish("end", data);
+        }
+    }
+
+    /**
+     * Stops streaming and disconnects all clients.
+     */
+    public void shutdown() {
+        if (executor != null) {
+            watchdog.shutdownNow();
+            executor.shutdownNow();
+            for (Client client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    @Override
+    public void handle(String target, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (clients.size() >= MAX_CLIENTS) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "30");
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("text/event-stream;charset=utf-8");
+        response.setHeader("Cache-Control", "no-cache");
+        response.flushBuffer();
+
+        AsyncContext context = request.startAsync();
+        context.setTimeout(0);
+        AbstractHttpConnection connection = AbstractHttpConnection.getCurrentConnection();
+        final Client client = new Client(context, response.getOutputStream(), connection == null ? null : connection.getEndPoint());
+        context.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                clients.remove(client);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                client.close();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                client.close();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        // Registering and replaying under the same lock keeps events from being missed or sent twice
+        synchronized (backlog) {
+            long lastEventId = parseLastEventId(request.getHeader("Last-Event-ID"));
+            if (lastEventId >= 0 && lastEventId < sequence) {
+                long oldest = Math.max(sequence - BACKLOG_SIZE, 0);
+                if (lastEventId < oldest) {
+                    client.send(frame(sequence, "reset", "{}"));
+                } else {
+                    for (long id = lastEventId + 1; id <= sequence; id++) {
+                        client.send(backlog[(int) (id % BACKLOG_SIZE)]);
+                    }
+                }
+            }
+            clients.add(client);
+        }
+    }
+
+    /**
+     * Serializes an event once, stores it in the backlog and hands it to every client.
+     *
+     * @param type The event type.
+     * @param data The event data.
+     */
+    private void publish(String type, Map<String, Object> data) {
+        String json = gson.toJson(data);
+        synchronized (backlog) {
+            sequence++;
+            byte[] frame = frame(sequence, type, json);
+            backlog[(int) (sequence % BACKLOG_SIZE)] = frame;
+            for (Client client : clients) {
+                client.send(frame);
+            }
+        }
+    }
+
+    /**
+     * Creates a factory for the daemon threads of the event stream.
+     *
+     * @param name The name of the threads.
+     * @return The thread factory.
+     */
+    private static ThreadFactory createThreadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Creates the data of an event about an arena.
+     *
+     * @param arena The arena.
+     * @return The event data.
+     */
+    private static Map<String, Object> createData(Arena arena) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("arenaName", arena.getName());
+        data.put("gameName", arena.getGame().getName());
+        return data;
+    }
+
+    /**
+     * Builds a server-sent event frame.
+     *
+     * @param id   The event id.
+     * @param type The event type.
+     * @param json The event data.
+     * @return The frame.
+     */
+    private static byte[] frame(long id, String type, String json) {
+        return ("id: " + id + "\nevent: " + type + "\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a Last-Event-ID header.
+     *
+     * @param header The header.
+     * @return The last event id, or -1 if there is none.
+     */
+    private static long parseLastEventId(String header) {
+        if (header == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A connected client with a bounded queue of frames waiting to be written.
+     */
+    private class Client implements Runnable {
+        private final AsyncContext context;
+        private final OutputStream out;
+        private final EndPoint endPoint;
+        private final Queue<byte[]> queue = new ArrayBlockingQueue<>(CLIENT_QUEUE_SIZE);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long writeStarted;
+
+        private Client(AsyncContext context, OutputStream out, EndPoint endPoint) {
+            this.context = context;
+            this.out = out;
+            this.endPoint = endPoint;
+        }
+
+        /**
+         * Queues a frame for the client without blocking. Disconnects the client if its queue is full.
+         *
+         * @param frame The frame.
+         */
+        private void send(byte[] frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                ultimateGames.getMessenger().debug("Disconnecting slow event stream client");
+                close();
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (Exception e) {
+                    close();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                byte[] frame;
+                while ((frame = queue.poll()) != null) {
+                    writeStarted = System.currentTimeMillis();
+                    out.write(frame);
+                }
+                writeStarted = System.currentTimeMillis();
+                out.flush();
+            } catch (IOException e) {
+                close();
+            } catch (Exception e) {
+                if (!closed.get()) {
+                    ultimateGames.getMessenger().log(Level.SEVERE, "Failed to write to an event stream client");
+                    ultimateGames.getMessenger().debug(e);
+                    close();
+                }
+            } finally {
+                writeStarted = 0;
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() && !closed.get() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * Disconnects the client if a write to it has been blocked for longer than the write timeout.<br>
+         * Closing the connection's end point makes the blocked write fail, which frees its fan-out thread.
+         *
+         * @param now The current time in milliseconds.
+         */
+        private void checkWrite(long now) {
+            long started = writeStarted;
+            if (started != 0 && now - started > WRITE_TIMEOUT_MILLIS) {
+                ultimateGames.getMessenger().debug("Disconnecting stalled event stream client");
+                close();
+                if (endPoint != null) {
+                    try {
+                        endPoint.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+
+        /**
+         * Disconnects the client.
+         */
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                clients.remove(this);
+                queue.clear();
+                try {
+                    context.complete();
+                } catch (Exception ignored) {
+                }
+            }
+        }
+    }
+}
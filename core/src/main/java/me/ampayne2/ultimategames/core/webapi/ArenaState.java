@@ -0,0 +1,81 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.webapi;
+
+import java.util.Map;
+
+/**
+ * An immutable, published state of all arenas, indexed for the web API routes.<br>
+ * Game names are indexed in lowercase.
+ */
+final class ArenaState {
+    private final JsonSnapshot general;
+    private final JsonSnapshot games;
+    private final Map<String, GameListing> listings;
+
+    /**
+     * Creates a new ArenaState. The map is not copied and must not be modified afterwards.
+     *
+     * @param general  The serialized list of all arenas.
+     * @param games    The serialized list of all games.
+     * @param listings The listings of each game.
+     */
+    ArenaState(JsonSnapshot general, JsonSnapshot games, Map<String, GameListing> listings) {
+        this.general = general;
+        this.games = games;
+        this.listings = listings;
+    }
+
+    JsonSnapshot getGeneral() {
+        return general;
+    }
+
+    JsonSnapshot getGames() {
+        return games;
+    }
+
+    Map<String, GameListing> getListings() {
+        return listings;
+    }
+
+    /**
+     * Gets the listing of a game.
+     *
+     * @param gameName The game name.
+     * @return The listing, or null if the game has no arenas.
+     */
+    GameListing getListing(String gameName) {
+        return listings.get(gameName.toLowerCase());
+    }
+
+    ArenaView getArena(String gameName, String arenaName) {
+        GameListing listing = getListing(gameName);
+        return listing == null ? null : listing.getArena(arenaName);
+    }
+
+    JsonSnapshot getPlayer(String playerName) {
+        for (GameListing listing : listings.values()) {
+            JsonSnapshot player = listing.getPlayer(playerName);
+            if (player != null) {
+                return player;
+            }
+        }
+        return null;
+    }
+}
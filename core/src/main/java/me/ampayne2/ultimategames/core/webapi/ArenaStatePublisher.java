@@ -0,0 +1,224 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.webapi;
+
+import com.google.gson.Gson;
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.games.Game;
+import me.ampayne2.ultimategames.core.UG;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Publishes the state of the arenas to the web API.<br>
+ * Arena changes mark the arena dirty. On the next tick the main thread rebuilds only the dirty arenas'
+ * {@link me.ampayne2.ultimategames.core.webapi.ArenaView}s. If only an arena's detail changed, for example a countdown ticked,
+ * only that arena's detail is replaced. Otherwise the {@link me.ampayne2.ultimategames.core.webapi.GameListing} of the arena's
+ * game is rebuilt and a new immutable {@link me.ampayne2.ultimategames.core.webapi.ArenaState} is published, which the jetty
+ * threads serve without touching arena state.<br>
+ * Every snapshot has its own version, which only changes when its JSON changes.
+ */
+public class ArenaStatePublisher implements WebEndpoint, Runnable {
+    private final UG ultimateGames;
+    private final boolean enabled;
+    private final Gson gson = new Gson();
+    private final Map<String, Map<Arena, ArenaView>> viewsOfGame = new HashMap<>();
+    private final Set<Arena> dirty = new HashSet<>();
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private boolean gamesChanged;
+    private long version;
+    private String generalJson = "[]";
+    private String gamesJson = "[]";
+    private volatile ArenaState state;
+    private BukkitTask task;
+
+    /**
+     * Creates a new ArenaStatePublisher.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param enabled       If the web API is enabled.
+     */
+    public ArenaStatePublisher(UG ultimateGames, boolean enabled) {
+        this.ultimateGames = ultimateGames;
+        this.enabled = enabled;
+        String initialVersion = instanceId + "-0";
+        state = new ArenaState(new JsonSnapshot(generalJson, initialVersion), new JsonSnapshot(gamesJson, initialVersion), new TreeMap<String, GameListing>());
+    }
+
+    /**
+     * Marks the state of an arena as changed so that it is published on the next tick.<br>
+     * Must be called from the main thread.
+     *
+     * @param arena The arena.
+     */
+    public void markDirty(Arena arena) {
+        if (enabled) {
+            dirty.add(arena);
+            schedule();
+        }
+    }
+
+    /**
+     * Schedules the state to be published on the next tick without marking an arena as changed, for example when the
+     * loaded games change.<br>
+     * Must be called from the main thread.
+     */
+    public void markDirty() {
+        if (enabled) {
+            gamesChanged = true;
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTask(ultimateGames, this);
+        }
+    }
+
+    /**
+     * Gets the latest published snapshot of the arena list.
+     *
+     * @return The snapshot.
+     */
+    public JsonSnapshot getSnapshot() {
+        return state.getGeneral();
+    }
+
+    /**
+     * Gets the latest published state.
+     *
+     * @return The state.
+     */
+    ArenaState getState() {
+        return state;
+    }
+
+    @Override
+    public void run() {
+        task = null;
+        Set<String> changedGames = new HashSet<>();
+        for (Arena arena : dirty) {
+            String key = arena.getGame().getName().toLowerCase();
+            Map<Arena, ArenaView> views = getViews(key);
+            ArenaView view = new ArenaView(ultimateGames, arena, gson, nextVersion());
+            ArenaView previous = views.get(arena);
+            if (previous != null && previous.hasSameListing(view)) {
+                if (!previous.getDetail().hasSameBody(view.getDetail())) {
+                    previous.setDetail(view.getDetail());
+                }
+            } else {
+                views.put(arena, view);
+                changedGames.add(key);
+            }
+        }
+        dirty.clear();
+        if (changedGames.isEmpty() && !gamesChanged) {
+            return;
+        }
+
+        Map<String, GameListing> listings = new TreeMap<>(state.getListings());
+        if (gamesChanged) {
+            for (Game game : ultimateGames.getGameManager().getGames()) {
+                String key = game.getName().toLowerCase();
+                if (!listings.containsKey(key)) {
+                    getViews(key);
+                    changedGames.add(key);
+                }
+            }
+        }
+        for (String key : changedGames) {
+            listings.put(key, new GameListing(viewsOfGame.get(key).values(), listings.get(key), nextVersion()));
+        }
+
+        StringBuilder general = new StringBuilder("[");
+        for (GameListing listing : listings.values()) {
+            if (!listing.getSummariesJson().isEmpty()) {
+                if (general.length() > 1) {
+                    general.append(',');
+                }
+                general.append(listing.getSummariesJson());
+            }
+        }
+        general.append(']');
+        JsonSnapshot generalSnapshot = state.getGeneral();
+        if (!general.toString().equals(generalJson)) {
+            generalJson = general.toString();
+            generalSnapshot = new JsonSnapshot(generalJson, nextVersion());
+        }
+
+        List<Map<String, Object>> games = new ArrayList<>();
+        for (Game game : ultimateGames.getGameManager().getGames()) {
+            GameListing listing = listings.get(game.getName().toLowerCase());
+            Map<String, Object> gameView = new LinkedHashMap<>();
+            gameView.put("gameName", game.getName());
+            gameView.put("description", game.getDescription());
+            gameView.put("version", game.getVersion());
+            gameView.put("author", game.getAuthor());
+            gameView.put("arenas", listing == null ? 0 : listing.getArenaCount());
+            gameView.put("currentPlayers", listing == null ? 0 : listing.getCurrentPlayers());
+            games.add(gameView);
+        }
+        JsonSnapshot gamesSnapshot = state.getGames();
+        String newGamesJson = gson.toJson(games);
+        if (!newGamesJson.equals(gamesJson)) {
+            gamesJson = newGamesJson;
+            gamesSnapshot = new JsonSnapshot(gamesJson, nextVersion());
+        }
+        gamesChanged = false;
+
+        state = new ArenaState(generalSnapshot, gamesSnapshot, listings);
+    }
+
+    /**
+     * Gets the arena views of a game, creating the map if the game has none yet.
+     *
+     * @param key The lowercase game name.
+     * @return The arena views of the game.
+     */
+    private Map<Arena, ArenaView> getViews(String key) {
+        Map<Arena, ArenaView> views = viewsOfGame.get(key);
+        if (views == null) {
+            views = new LinkedHashMap<>();
+            viewsOfGame.put(key, views);
+        }
+        return views;
+    }
+
+    private String nextVersion() {
+        return instanceId + "-" + (++version);
+    }
+
+    @Override
+    public void handle(String target, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        state.getGeneral().send(request, response);
+    }
+}
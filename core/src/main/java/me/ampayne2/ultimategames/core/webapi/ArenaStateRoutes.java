@@ -0,0 +1,144 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.webapi;
+
+import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Serves the game, arena and player routes of the web API from the state published by the
+ * {@link me.ampayne2.ultimategames.core.webapi.ArenaStatePublisher}:
+ * <ul>
+ * <li>/games</li>
+ * <li>/games/{game}/arenas?status=&amp;page=&amp;limit=</li>
+ * <li>/arenas/{game}/{arena}</li>
+ * <li>/players/{name}</li>
+ * </ul>
+ */
+public class ArenaStateRoutes implements WebEndpoint {
+    private final ArenaStatePublisher publisher;
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 500;
+
+    /**
+     * Creates a new ArenaStateRoutes.
+     *
+     * @param publisher The {@link me.ampayne2.ultimategames.core.webapi.ArenaStatePublisher} to read the state from.
+     */
+    public ArenaStateRoutes(ArenaStatePublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void handle(String target, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ArenaState state = publisher.getState();
+        String[] path = target.substring(1).split("/");
+        JsonSnapshot result = null;
+        switch (path[0]) {
+            case "games":
+                if (path.length == 1) {
+                    result = state.getGames();
+                } else if (path.length == 3 && path[2].equals("arenas")) {
+                    try {
+                        result = getArenasOfGame(state, path[1], request);
+                    } catch (IllegalArgumentException e) {
+                        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                        return;
+                    }
+                }
+                break;
+            case "arenas":
+                if (path.length == 3) {
+                    ArenaView view = state.getArena(path[1], path[2]);
+                    if (view != null) {
+                        result = view.getDetail();
+                    }
+                }
+                break;
+            case "players":
+                if (path.length == 2) {
+                    result = state.getPlayer(path[1]);
+                }
+                break;
+            default:
+        }
+        if (result == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        } else {
+            result.send(request, response);
+        }
+    }
+
+    /**
+     * Builds a page of the arenas of a game, joining the arena summaries that were serialized when they were published.
+     *
+     * @param state    The state.
+     * @param gameName The game name.
+     * @param request  The request.
+     * @return The page, or null if the game doesn't exist.
+     * @throws IllegalArgumentException If a parameter is invalid.
+     */
+    private JsonSnapshot getArenasOfGame(ArenaState state, String gameName, HttpServletRequest request) {
+        ArenaStatus status = null;
+        String statusParameter = request.getParameter("status");
+        if (statusParameter != null) {
+            status = ArenaStatus.valueOf(statusParameter.toUpperCase());
+        }
+        int page = parseInt(request.getParameter("page"), 1);
+        int limit = parseInt(request.getParameter("limit"), DEFAULT_LIMIT);
+        if (page < 1 || limit < 1) {
+            throw new IllegalArgumentException("Page and limit must be positive");
+        }
+        limit = Math.min(limit, MAX_LIMIT);
+
+        GameListing listing = state.getListing(gameName);
+        if (listing == null) {
+            return null;
+        }
+        List<ArenaView> views = listing.getArenas(status);
+        int from = (int) Math.min((long) (page - 1) * limit, views.size());
+        int to = Math.min(from + limit, views.size());
+        StringBuilder json = new StringBuilder();
+        json.append("{\"total\":").append(views.size()).append(",\"page\":").append(page).append(",\"limit\":").append(limit).append(",\"arenas\":[");
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                json.append(',');
+            }
+            json.append(views.get(i).getSummaryJson());
+        }
+        json.append("]}");
+        return new JsonSnapshot(json.toString(), listing.getVersion() + "-" + (status == null ? "ALL" : status.name()) + "-" + page + "-" + limit);
+    }
+
+    /**
+     * Parses an integer query parameter.
+     *
+     * @param parameter    The parameter.
+     * @param defaultValue The value to use if the parameter is missing.
+     * @return The value.
+     * @throws NumberFormatException If the parameter isn't an integer.
+     */
+    private static int parseInt(String parameter, int defaultValue) {
+        return parameter == null ? defaultValue : Integer.parseInt(parameter.trim());
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.webapi;
+
+import com.google.gson.Gson;
+import me.ampayne2.ultimategames.api.arenas.Arena;
+import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+import me.ampayne2.ultimategames.api.arenas.countdowns.EndingCountdown;
+import me.ampayne2.ultimategames.api.players.teams.Team;
+import me.ampayne2.ultimategames.core.UG;
+import me.ampayne2.ultimategames.core.arenas.countdowns.StartingCountdown;
+import me.ampayne2.ultimategames.core.arenas.countdowns.UCountdownManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A view of an arena's state, serialized once when the view is created.<br>
+ * The summary and the player views are immutable. The detail is replaced when a newer view of the arena only differs in its detail,
+ * so that the published listings and their entity tags stay the same.
+ */
+final class ArenaView {
+    private final String gameName;
+    private final String arenaName;
+    private final ArenaStatus status;
+    private final int currentPlayers;
+    private final String summaryJson;
+    private volatile JsonSnapshot detail;
+    private final Map<String, JsonSnapshot> players;
+
+    /**
+     * Creates a view of an arena. Must be called from the main thread.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param arena         The arena.
+     * @param gson          The gson instance to serialize the view with.
+     * @param version       The version of the view.
+     */
+    ArenaView(UG ultimateGames, Arena arena, Gson gson, String version) {
+        gameName = arena.getGame().getName();
+        arenaName = arena.getName();
+        status = arena.getStatus();
+        currentPlayers = arena.getPlayers().size();
+
+        Map<String, String> summary = new LinkedHashMap<>();
+        summary.put("arenaName", arenaName);
+        summary.put("gameName", gameName);
+        summary.put("currentPlayers", Integer.toString(currentPlayers));
+        summary.put("maxPlayers", Integer.toString(arena.getMaxPlayers()));
+        summary.put("status", status.name());
+        summaryJson = gson.toJson(summary);
+
+        Map<String, Object> detail = new LinkedHashMap<>();
+        detail.put("arenaName", arenaName);
+        detail.put("gameName", gameName);
+        detail.put("status", status.name());
+        detail.put("currentPlayers", currentPlayers);
+        detail.put("minPlayers", arena.getMinPlayers());
+        detail.put("maxPlayers", arena.getMaxPlayers());
+        detail.put("players", new ArrayList<>(arena.getPlayers()));
+        detail.put("spectators", new ArrayList<>(arena.getSpectators()));
+        List<Map<String, Object>> teams = new ArrayList<>();
+        Map<String, String> playerTeams = new HashMap<>();
+        for (Team team : ultimateGames.getTeamManager().getTeamsOfArena(arena)) {
+            Map<String, Object> teamView = new LinkedHashMap<>();
+            teamView.put("name", team.getName());
+            teamView.put("players", new ArrayList<>(team.getPlayers()));
+            teams.add(teamView);
+            for (String playerName : team.getPlayers()) {
+                playerTeams.put(playerName, team.getName());
+            }
+        }
+        detail.put("teams", teams);
+        UCountdownManager countdownManager = ultimateGames.getCountdownManager();
+        if (countdownManager != null) {
+            if (countdownManager.hasStartingCountdown(arena)) {
+                StartingCountdown countdown = countdownManager.getStartingCountdown(arena);
+                detail.put("startingCountdown", countdown.getSecondsLeft());
+            }
+            if (countdownManager.hasEndingCountdown(arena)) {
+                EndingCountdown countdown = countdownManager.getEndingCountdown(arena);
+                detail.put("endingCountdown", countdown.getSecondsLeft());
+            }
+        }
+        detail.put("queueLength", ultimateGames.getQueueManager().getQueueLength(arena));
+        this.detail = new JsonSnapshot(gson.toJson(detail), version);
+
+        Map<String, JsonSnapshot> players = new HashMap<>();
+        addPlayers(players, arena.getPlayers(), false, playerTeams, gson, version);
+        addPlayers(players, arena.getSpectators(), true, playerTeams, gson, version);
+        this.players = Collections.unmodifiableMap(players);
+    }
+
+    /**
+     * Adds the serialized views of players in the arena.
+     *
+     * @param players     The map to add the views to, by lowercase player name.
+     * @param playerNames The names of the players.
+     * @param spectator   If the players are spectators.
+     * @param playerTeams The team names of the players.
+     * @param gson        The gson instance to serialize the views with.
+     * @param version     The version of the views.
+     */
+    private void addPlayers(Map<String, JsonSnapshot> players, List<String> playerNames, boolean spectator, Map<String, String> playerTeams, Gson gson, String version) {
+        for (String playerName : playerNames) {
+            Map<String, Object> player = new LinkedHashMap<>();
+            player.put("playerName", playerName);
+            player.put("arenaName", arenaName);
+            player.put("gameName", gameName);
+            player.put("spectator", spectator);
+            player.put("team", playerTeams.get(playerName));
+            players.put(playerName.toLowerCase(), new JsonSnapshot(gson.toJson(player), version));
+        }
+    }
+
+    String getGameName() {
+        return gameName;
+    }
+
+    String getArenaName() {
+        return arenaName;
+    }
+
+    ArenaStatus getStatus() {
+        return status;
+    }
+
+    int getCurrentPlayers() {
+        return currentPlayers;
+    }
+
+    String getSummaryJson() {
+        return summaryJson;
+    }
+
+    JsonSnapshot getDetail() {
+        return detail;
+    }
+
+    /**
+     * Replaces the detail of the view with the detail of a newer view. Must be called from the main thread.
+     *
+     * @param detail The newer detail.
+     */
+    void setDetail(JsonSnapshot detail) {
+        this.detail = detail;
+    }
+
+    /**
+     * Checks if a newer view of the arena has the same summary and player views, so that only its detail changed.
+     *
+     * @param other The newer view.
+     * @return True if the summary and player views are the same, else false.
+     */
+    boolean hasSameListing(ArenaView other) {
+        if (!summaryJson.equals(other.summaryJson) || !players.keySet().equals(other.players.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, JsonSnapshot> player : players.entrySet()) {
+            if (!player.getValue().hasSameBody(other.players.get(player.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Map<String, JsonSnapshot> getPlayers() {
+        return players;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.webapi;
+
+import me.ampayne2.ultimategames.api.arenas.ArenaStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, indexed listing of the arena views of one game.<br>
+ * Arena and player names are indexed in lowercase.
+ */
+final class GameListing {
+    private final String version;
+    private final List<ArenaView> arenas;
+    private final Map<ArenaStatus, List<ArenaView>> arenasByStatus = new EnumMap<>(ArenaStatus.class);
+    private final Map<String, ArenaView> arenasByName = new HashMap<>();
+    private final Map<String, JsonSnapshot> players = new HashMap<>();
+    private final String summariesJson;
+    private int currentPlayers;
+
+    /**
+     * Creates a new GameListing.
+     *
+     * @param views    The arena views of the game.
+     * @param previous The previous listing of the game, or null.
+     * @param version  The version of the listing, used if the arena summaries changed since the previous listing.
+     */
+    GameListing(Collection<ArenaView> views, GameListing previous, String version) {
+        arenas = Collections.unmodifiableList(new ArrayList<>(views));
+        StringBuilder summaries = new StringBuilder();
+        for (ArenaView view : arenas) {
+            List<ArenaView> statusViews = arenasByStatus.get(view.getStatus());
+            if (statusViews == null) {
+                statusViews = new ArrayList<>();
+                arenasByStatus.put(view.getStatus(), statusViews);
+            }
+            statusViews.add(view);
+            arenasByName.put(view.getArenaName().toLowerCase(), view);
+            players.putAll(view.getPlayers());
+            currentPlayers += view.getCurrentPlayers();
+            if (summaries.length() > 0) {
+                summaries.append(',');
+            }
+            summaries.append(view.getSummaryJson());
+        }
+        summariesJson = summaries.toString();
+        this.version = previous != null && previous.summariesJson.equals(summariesJson) ? previous.version : version;
+    }
+
+    /**
+     * Gets the version of the listing, which only changes when an arena summary changes.
+     *
+     * @return The version.
+     */
+    String getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the arena views of the game, optionally filtered by status.
+     *
+     * @param status The status, or null for every status.
+     * @return The arena views.
+     */
+    List<ArenaView> getArenas(ArenaStatus status) {
+        if (status == null) {
+            return arenas;
+        }
+        List<ArenaView> views = arenasByStatus.get(status);
+        return views == null ? Collections.<ArenaView>emptyList() : views;
+    }
+
+    ArenaView getArena(String arenaName) {
+        return arenasByName.get(arenaName.toLowerCase());
+    }
+
+    JsonSnapshot getPlayer(String playerName) {
+        return players.get(playerName.toLowerCase());
+    }
+
+    int getArenaCount() {
+        return arenas.size();
+    }
+
+    int getCurrentPlayers() {
+        return currentPlayers;
+    }
+
+    /**
+     * Gets the serialized arena summaries of the game, separated by commas.
+     *
+     * @return The arena summaries.
+     */
+    String getSummariesJson() {
+        return summariesJson;
+    }
+}
@@ -26,15 +26,25 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class JettyHandler extends AbstractHandler {
-    private Map<String, WebHandler> handlerMap = new HashMap<>();
+    private Map<String, WebHandler> handlerMap = new ConcurrentHashMap<>();
+    private Map<String, WebEndpoint> endpointMap = new ConcurrentHashMap<>();
+    private Map<String, WebEndpoint> routeMap = new ConcurrentHashMap<>();
 
     @Override
     public void handle(String s, Request request, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws IOException, ServletException {
-        if (handlerMap.containsKey(s)) {
+        WebEndpoint endpoint = endpointMap.get(s);
+        if (endpoint == null) {
+            int slash = s.indexOf('/', 1);
+            endpoint = routeMap.get(slash == -1 ? s : s.substring(0, slash));
+        }
+        if (endpoint != null) {
+            request.setHandled(true);
+            endpoint.handle(s, httpServletRequest, httpServletResponse);
+        } else if (handlerMap.containsKey(s)) {
             httpServletResponse.setStatus(HttpServletResponse.SC_OK);
             httpServletResponse.setContentType("application/json;charset=utf-8");
             request.setHandled(true);
@@ -47,4 +57,24 @@ public class JettyHandler extends AbstractHandler {
     public void addHandler(String path, WebHandler handler) {
         handlerMap.put(path, handler);
     }
+
+    /**
+     * Adds an internal endpoint that writes its own response.
+     *
+     * @param path     The path of the endpoint.
+     * @param endpoint The endpoint.
+     */
+    public void addEndpoint(String path, WebEndpoint endpoint) {
+        endpointMap.put(path, endpoint);
+    }
+
+    /**
+     * Adds an internal endpoint that handles a path and every path below it, for example /games and /games/{game}/arenas.
+     *
+     * @param prefix   The first path segment handled by the endpoint, for example /games.
+     * @param endpoint The endpoint.
+     */
+    public void addRoute(String prefix, WebEndpoint endpoint) {
+        routeMap.put(prefix, endpoint);
+    }
 }
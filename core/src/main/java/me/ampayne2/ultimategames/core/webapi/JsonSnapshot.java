@@ -0,0 +1,105 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.webapi;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An immutable, serialized JSON document with an entity tag.
+ */
+public final class JsonSnapshot {
+    private final byte[] body;
+    private final String etag;
+
+    /**
+     * Creates a new JsonSnapshot.
+     *
+     * @param json    The JSON document.
+     * @param version The version of the document, used to build the entity tag.
+     */
+    public JsonSnapshot(String json, String version) {
+        this.body = json.getBytes(StandardCharsets.UTF_8);
+        this.etag = "\"" + version + "\"";
+    }
+
+    /**
+     * Gets the entity tag of the snapshot.
+     *
+     * @return The entity tag, including quotes.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Checks if another snapshot has the same JSON document, regardless of its entity tag.
+     *
+     * @param other The other snapshot.
+     * @return True if the documents are the same, else false.
+     */
+    boolean hasSameBody(JsonSnapshot other) {
+        return Arrays.equals(body, other.body);
+    }
+
+    /**
+     * Sends the snapshot, or 304 Not Modified if the request's If-None-Match header matches the entity tag.
+     *
+     * @param request  The request.
+     * @param response The response.
+     * @throws IOException If the response can't be written.
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader("ETag", etag);
+        response.setHeader("Cache-Control", "no-cache");
+        if (matches(request.getHeader("If-None-Match"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("application/json;charset=utf-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Checks if an If-None-Match header matches the entity tag.
+     *
+     * @param ifNoneMatch The If-None-Match header.
+     * @return True if the header matches, else false.
+     */
+    private boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -18,22 +18,12 @@
  */
 package me.ampayne2.ultimategames.core.whitelist;
 
-import me.ampayne2.ultimategames.api.games.Game;
-import me.ampayne2.ultimategames.api.whitelist.Whitelist;
 import me.ampayne2.ultimategames.core.UG;
-import org.apache.commons.lang.Validate;
-import org.bukkit.Material;
-import org.bukkit.configuration.file.FileConfiguration;
-
-import java.util.*;
 
 /**
  * A whitelist of blocks that can be placed in a game.
  */
-public class BlockPlaceWhitelist implements Whitelist<Material> {
-    private final UG ultimateGames;
-    private final Map<Game, Set<Material>> materials = new HashMap<>();
-    private final Map<Game, Boolean> useAsBlacklist = new HashMap<>();
+public class BlockPlaceWhitelist extends MaterialWhitelist {
 
     /**
      * Creates a new BlockPlaceWhitelist.
@@ -41,37 +31,6 @@ public class BlockPlaceWhitelist implements Whitelist<Material> {
      * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
      */
     public BlockPlaceWhitelist(UG ultimateGames) {
-        this.ultimateGames = ultimateGames;
-        reload();
-    }
-
-    @Override
-    public boolean isWhitelisted(Game game, Material material) {
-        Validate.notNull(game, "Game cannot be null");
-        Validate.notNull(material, "Material cannot be null");
-
-        return materials.containsKey(game) && (useAsBlacklist.get(game) ^ materials.get(game).contains(material));
-    }
-
-    @Override
-    public boolean isBlacklisted(Game game, Material material) {
-        return !isWhitelisted(game, material);
-    }
-
-    @Override
-    public void reload() {
-        materials.clear();
-        for (Game game : ultimateGames.getGameManager().getGames()) {
-            FileConfiguration gameConfig = ultimateGames.getConfigManager().getGameConfig(game);
-            if (gameConfig.contains("BlockPlaceWhitelist")) {
-                List<String> materialNames = gameConfig.getStringList("BlockPlaceWhitelist");
-                Set<Material> configMaterials = new HashSet<>();
-                for (String materialName : materialNames) {
-                    configMaterials.add(Material.valueOf(materialName));
-                }
-                materials.put(game, configMaterials);
-                useAsBlacklist.put(game, gameConfig.getBoolean("DefaultSettings.Use-Whitelist-As-Blacklist", false));
-            }
-        }
+        super(ultimateGames, "BlockPlaceWhitelist");
     }
 }
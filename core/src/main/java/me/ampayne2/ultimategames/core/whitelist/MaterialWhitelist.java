@@ -0,0 +1,81 @@
+/*
+ * This file is part of UltimateGames Core.
+ *
+ * Copyright (c) 2013-2014, UltimateGames <http://github.com/ampayne2/>
+ *
+ * UltimateGames Core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * UltimateGames Core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with UltimateGames Core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package me.ampayne2.ultimategames.core.whitelist;
+
+import me.ampayne2.ultimategames.api.games.Game;
+import me.ampayne2.ultimategames.api.whitelist.Whitelist;
+import me.ampayne2.ultimategames.core.UG;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A whitelist of materials loaded from a list in each game's config.<br>
+ * Each game's list is compiled into a bitset of the allowed material ordinals when the whitelist is reloaded.
+ */
+public abstract class MaterialWhitelist implements Whitelist<Material> {
+    private final UG ultimateGames;
+    private final String configPath;
+    private final Map<Game, BitSet> allowedMaterials = new HashMap<>();
+    private static final int MATERIAL_AMOUNT = Material.values().length;
+
+    /**
+     * Creates a new MaterialWhitelist.
+     *
+     * @param ultimateGames The {@link me.ampayne2.ultimategames.core.UG} instance.
+     * @param configPath    The path of the material list in the game configs.
+     */
+    public MaterialWhitelist(UG ultimateGames, String configPath) {
+        this.ultimateGames = ultimateGames;
+        this.configPath = configPath;
+        reload();
+    }
+
+    @Override
+    public boolean isWhitelisted(Game game, Material material) {
+        BitSet allowed = allowedMaterials.get(game);
+        return allowed != null && allowed.get(material.ordinal());
+    }
+
+    @Override
+    public boolean isBlacklisted(Game game, Material material) {
+        return !isWhitelisted(game, material);
+    }
+
+    @Override
+    public void reload() {
+        allowedMaterials.clear();
+        for (Game game : ultimateGames.getGameManager().getGames()) {
+            FileConfiguration gameConfig = ultimateGames.getConfigManager().getGameConfig(game);
+            if (gameConfig.contains(configPath)) {
+                BitSet allowed = new BitSet(MATERIAL_AMOUNT);
+                for (String materialName : gameConfig.getStringList(configPath)) {
+                    allowed.set(Material.valueOf(materialName).ordinal());
+                }
+                if (gameConfig.getBoolean("DefaultSettings.Use-Whitelist-As-Blacklist", false)) {
+                    allowed.flip(0, MATERIAL_AMOUNT);
+                }
+                allowedMaterials.put(game, allowed);
+            }
+        }
+    }
+}